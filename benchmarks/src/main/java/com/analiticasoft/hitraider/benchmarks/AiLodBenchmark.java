@@ -0,0 +1,125 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.combat.Damageable;
+import com.analiticasoft.hitraider.config.PhysicsTuning;
+import com.analiticasoft.hitraider.controllers.AiLodController;
+import com.analiticasoft.hitraider.entities.MeleeEnemy;
+import com.analiticasoft.hitraider.entities.Player;
+import com.analiticasoft.hitraider.entities.RangedEnemy;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.analiticasoft.hitraider.physics.PhysicsWorld;
+import com.analiticasoft.hitraider.world.LevelFactory;
+import com.analiticasoft.hitraider.world.RoomTemplate;
+import com.analiticasoft.hitraider.world.RoomTemplateRegistry;
+import com.analiticasoft.hitraider.world.SpatialHash;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One sim step of enemy AI + physics in an arena_long room, player parked at the entry (start of a room),
+ * for the RoomInstanceGenerator budget ramp (6 + i * 4, half melee / half ranged, spawns cycled like RunController).
+ * ON = AiLodController (far enemies asleep + round-robin AI), OFF = every enemy updated every step.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AiLodBenchmark {
+
+    private static final float DT = PhysicsTuning.SIM_DT;
+
+    public enum Lod { ON, OFF }
+
+    // rooms 0, 1, 3, 5, 9, 19
+    @Param({"6", "10", "18", "26", "42", "82"})
+    public int budget;
+
+    @Param({"ON", "OFF"})
+    public Lod lod;
+
+    private PhysicsWorld physics;
+    private Player player;
+    private final Array<MeleeEnemy> melee = new Array<>();
+    private final Array<RangedEnemy> ranged = new Array<>();
+    private final SpatialHash<Damageable> grid = new SpatialHash<>();
+    private final AiLodController aiLod = new AiLodController();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        physics = new PhysicsWorld(new Vector2(0f, PhysicsTuning.GRAVITY_Y));
+        RoomTemplateRegistry rooms = new RoomTemplateRegistry();
+        rooms.loadFrom(new FileHandle(RoomTemplateRegistry.ROOMS_DIR)); // jmh runs from assets/
+        RoomTemplate room = rooms.byId("arena_long");
+        LevelFactory.createAll(physics.world, room.platforms);
+        player = new Player(physics.world, room.entryXpx, room.entryYpx);
+
+        aiLod.enabled = (lod == Lod.ON);
+
+        int meleeCount = budget / 2;
+        int rangedCount = budget - meleeCount;
+        int si = 0;
+        for (int i = 0; i < meleeCount; i++) {
+            Vector2 sp = room.spawns.get(si++ % room.spawns.size);
+            MeleeEnemy e = new MeleeEnemy(physics.world, sp.x, sp.y);
+            e.gridId = grid.insert(e, e.getXpx(), e.getYpx());
+            melee.add(e);
+        }
+        for (int i = 0; i < rangedCount; i++) {
+            Vector2 sp = room.spawns.get(si++ % room.spawns.size);
+            RangedEnemy e = new RangedEnemy(physics.world, sp.x, sp.y);
+            e.gridId = grid.insert(e, e.getXpx(), e.getYpx());
+            ranged.add(e);
+        }
+
+        for (int i = 0; i < 120; i++) step(); // land on the floor / go to sleep
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        physics.dispose();
+    }
+
+    /** Same order as GameplayRuntime.simStep: grid sync, AI (LOD scheduled), physics. */
+    @Benchmark
+    public int step() {
+        for (int i = 0; i < melee.size; i++) {
+            MeleeEnemy e = melee.get(i);
+            if (aiLod.isAsleep(e.gridId)) continue;
+            Vector2 p = e.body.getPosition();
+            grid.update(e.gridId, PhysicsConstants.toPixels(p.x), PhysicsConstants.toPixels(p.y));
+        }
+        for (int i = 0; i < ranged.size; i++) {
+            RangedEnemy e = ranged.get(i);
+            if (aiLod.isAsleep(e.gridId)) continue;
+            Vector2 p = e.body.getPosition();
+            grid.update(e.gridId, PhysicsConstants.toPixels(p.x), PhysicsConstants.toPixels(p.y));
+        }
+
+        aiLod.beginStep();
+        float px = player.getXpx(), py = player.getYpx();
+
+        for (int i = 0; i < melee.size; i++) {
+            MeleeEnemy e = melee.get(i);
+            float edt = aiLod.schedule(e.gridId, e.body, e.getState() == MeleeEnemy.State.IDLE, e.getHealth(),
+                grid.x(e.gridId), grid.y(e.gridId), e.getAggroRangePx(), px, py, DT);
+            if (edt >= 0f) e.update(edt, player, grid);
+        }
+        for (int i = 0; i < ranged.size; i++) {
+            RangedEnemy e = ranged.get(i);
+            float edt = aiLod.schedule(e.gridId, e.body, e.getState() == RangedEnemy.State.IDLE, e.getHealth(),
+                grid.x(e.gridId), grid.y(e.gridId), e.getAggroRangePx(), px, py, DT);
+            if (edt >= 0f) e.update(edt, player);
+        }
+
+        physics.stepFixed();
+        return aiLod.active;
+    }
+}
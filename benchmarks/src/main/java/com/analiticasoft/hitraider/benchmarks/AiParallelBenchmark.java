@@ -0,0 +1,85 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.combat.Damageable;
+import com.analiticasoft.hitraider.config.PhysicsTuning;
+import com.analiticasoft.hitraider.entities.EnemyStore;
+import com.analiticasoft.hitraider.entities.MeleeEnemy;
+import com.analiticasoft.hitraider.entities.RangedEnemy;
+import com.analiticasoft.hitraider.gameplay.EnemyAiPhase;
+import com.analiticasoft.hitraider.physics.PhysicsWorld;
+import com.analiticasoft.hitraider.world.SpatialHash;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enemy AI decide (EnemyAiPhase, chunked over threads) + serial apply, AI LOD off (every enemy decides every step).
+ * Enemies packed in rows within aggro range of the player (3/4 melee: chase, + separation queries if CombatTuning.MELEE_SEPARATION), no physics step:
+ * the sweep isolates what the worker threads split. threads = 1 is the plain serial loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AiParallelBenchmark {
+
+    private static final float DT = PhysicsTuning.SIM_DT;
+    private static final float PLAYER_X = 1000f;
+    private static final int PER_ROW = 48;
+
+    @Param({"256", "1024", "4096"})
+    public int enemies;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private PhysicsWorld physics;
+    private final EnemyStore store = new EnemyStore();
+    private final SpatialHash<Damageable> grid = new SpatialHash<>();
+    private EnemyAiPhase phase;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        physics = new PhysicsWorld(new Vector2(0f, PhysicsTuning.GRAVITY_Y));
+        phase = new EnemyAiPhase(threads);
+
+        for (int i = 0; i < enemies; i++) {
+            float x = PLAYER_X - 230f + (i % PER_ROW) * 10f;
+            float y = 100f + (i / PER_ROW) * 30f;
+            if (i % 4 == 3) {
+                RangedEnemy e = new RangedEnemy(physics.world, x, y);
+                e.gridId = grid.insert(e, x, y);
+                store.add(e, e.gridId);
+            } else {
+                MeleeEnemy e = new MeleeEnemy(physics.world, x, y);
+                e.gridId = grid.insert(e, x, y);
+                store.add(e, e.gridId);
+            }
+        }
+        for (int i = 0; i < store.size; i++) store.aiDt[i] = DT;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        phase.dispose();
+        physics.dispose();
+    }
+
+    /** Same phases as GameplayRuntime.updateEnemies (schedule = everyone, no spawns/removals). */
+    @Benchmark
+    public int step() {
+        phase.decide(store, grid, PLAYER_X);
+
+        for (int i = store.size - 1; i >= 0; i--) {
+            if (store.kind[i] == EnemyStore.MELEE) store.melee(i).applyDecision();
+            else store.ranged(i).applyDecision();
+            store.refresh(i);
+        }
+        return phase.lastChunks();
+    }
+}
@@ -0,0 +1,94 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.combat.CombatSystem;
+import com.analiticasoft.hitraider.combat.Damageable;
+import com.analiticasoft.hitraider.combat.Faction;
+import com.analiticasoft.hitraider.combat.HealthComponent;
+import com.analiticasoft.hitraider.physics.CollisionBits;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CombatSystem melee hitbox lifecycle: each frame 1/ATTACK_EVERY of the attackers swing
+ * (spawnMeleeHitbox = fixture create + pool + owner map), then update() expires the old ones (fixture destroy).
+ * Attackers are static bodies, so the world step that follows (Box2D only settles new proxies there) costs ~nothing.
+ * Steady state ~ attackers * 18 / ATTACK_EVERY live hitboxes (0.30s each).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatHitboxBenchmark {
+
+    private static final float DT = 1f / 60f;
+    private static final int ATTACK_EVERY = 30; // frames between swings of one attacker
+
+    @Param({"16", "64", "256"})
+    public int attackers;
+
+    private World world;
+    private CombatSystem combat;
+    private Body[] bodies;
+    private Dummy[] owners;
+    private int frame;
+
+    private static final class Dummy implements Damageable {
+        private final HealthComponent health = new HealthComponent(1_000_000);
+        @Override public Faction getFaction() { return Faction.ENEMY; }
+        @Override public void applyDamage(int amount, Vector2 knockback) {}
+        @Override public boolean isAlive() { return true; }
+        @Override public HealthComponent getHealth() { return health; }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        world = new World(new Vector2(0f, -20f), true);
+        combat = new CombatSystem(world);
+
+        bodies = new Body[attackers];
+        owners = new Dummy[attackers];
+        for (int i = 0; i < attackers; i++) {
+            BodyDef bd = new BodyDef();
+            bd.type = BodyDef.BodyType.StaticBody;
+            bd.position.set(PhysicsConstants.toMeters(100f + i * 60f), PhysicsConstants.toMeters(100f));
+            bodies[i] = world.createBody(bd);
+
+            PolygonShape s = new PolygonShape();
+            s.setAsBox(PhysicsConstants.toMeters(14f), PhysicsConstants.toMeters(28f));
+            FixtureDef fd = new FixtureDef();
+            fd.shape = s;
+            fd.filter.categoryBits = CollisionBits.ENEMY;
+            fd.filter.maskBits = CollisionBits.MASK_ENEMY_BODY;
+            owners[i] = new Dummy();
+            bodies[i].createFixture(fd).setUserData(owners[i]);
+            s.dispose();
+        }
+
+        for (int i = 0; i < ATTACK_EVERY * 2; i++) frame(); // fill the pool
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        combat.dispose();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int frame() {
+        combat.beginFrame();
+        int slot = frame++ % ATTACK_EVERY;
+        for (int i = slot; i < attackers; i += ATTACK_EVERY) {
+            combat.spawnMeleeHitbox(bodies[i], owners[i], Faction.ENEMY, (i & 1) == 0 ? 1 : -1, 0, 1);
+        }
+        combat.update(DT);
+        world.step(DT, 6, 2);
+        return combat.activeHitboxCount();
+    }
+}
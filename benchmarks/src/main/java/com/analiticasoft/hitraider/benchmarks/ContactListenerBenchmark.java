@@ -0,0 +1,136 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.combat.CombatSystem;
+import com.analiticasoft.hitraider.combat.ProjectileSystem;
+import com.analiticasoft.hitraider.physics.CollisionBits;
+import com.analiticasoft.hitraider.physics.FixtureTag;
+import com.analiticasoft.hitraider.physics.GameContactListener;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One world.step with N bodies hopping on a floor of GROUND / ONE_WAY tiles:
+ * - half PLAYER bodies (+ ground sensor, so begin/endContact churn every hop), half ENEMY bodies
+ * - every resting body keeps a contact alive, so preSolve runs for all of them each step
+ * GAME = GameContactListener, NONE = no listener (baseline: pure Box2D cost).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContactListenerBenchmark {
+
+    private static final float DT = 1f / 60f;
+    private static final float TILE_W_PX = 64f;
+    private static final int HOP_EVERY = 20;
+
+    public enum Listener { GAME, NONE }
+
+    @Param({"200", "800"})
+    public int bodies;
+
+    @Param({"GAME", "NONE"})
+    public Listener listener;
+
+    private World world;
+    private Body[] dynamic;
+    private int frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        world = new World(new Vector2(0f, -20f), true);
+
+        CombatSystem combat = new CombatSystem(world);
+        ProjectileSystem projectiles = new ProjectileSystem(world);
+        if (listener == Listener.GAME) world.setContactListener(new GameContactListener(combat, projectiles));
+
+        // Floor: one tile per body column, alternating ground / one-way
+        int columns = bodies;
+        for (int i = 0; i < columns; i++) {
+            FixtureTag tag = (i % 2 == 0) ? FixtureTag.GROUND : FixtureTag.ONE_WAY;
+            staticBox(i * TILE_W_PX, 16f, TILE_W_PX, 16f, tag);
+        }
+
+        dynamic = new Body[bodies];
+        for (int i = 0; i < bodies; i++) {
+            boolean player = (i % 2 == 0);
+            dynamic[i] = actor(i * TILE_W_PX, 60f, player);
+        }
+
+        for (int i = 0; i < 120; i++) frame(); // settle on the floor
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    private void staticBox(float cxPx, float cyPx, float wPx, float hPx, FixtureTag tag) {
+        BodyDef bd = new BodyDef();
+        bd.type = BodyDef.BodyType.StaticBody;
+        bd.position.set(PhysicsConstants.toMeters(cxPx), PhysicsConstants.toMeters(cyPx));
+        Body b = world.createBody(bd);
+
+        PolygonShape s = new PolygonShape();
+        s.setAsBox(PhysicsConstants.toMeters(wPx / 2f), PhysicsConstants.toMeters(hPx / 2f));
+        FixtureDef fd = new FixtureDef();
+        fd.shape = s;
+        fd.filter.categoryBits = CollisionBits.WORLD;
+        fd.filter.maskBits = CollisionBits.MASK_WORLD_SOLID;
+        b.createFixture(fd).setUserData(tag);
+        s.dispose();
+    }
+
+    private Body actor(float cxPx, float cyPx, boolean player) {
+        BodyDef bd = new BodyDef();
+        bd.type = BodyDef.BodyType.DynamicBody;
+        bd.fixedRotation = true;
+        bd.position.set(PhysicsConstants.toMeters(cxPx), PhysicsConstants.toMeters(cyPx));
+        Body b = world.createBody(bd);
+
+        PolygonShape s = new PolygonShape();
+        s.setAsBox(PhysicsConstants.toMeters(12f), PhysicsConstants.toMeters(24f));
+        FixtureDef fd = new FixtureDef();
+        fd.shape = s;
+        fd.density = 1f;
+        fd.filter.categoryBits = player ? CollisionBits.PLAYER : CollisionBits.ENEMY;
+        fd.filter.maskBits = player ? CollisionBits.MASK_PLAYER_BODY : CollisionBits.MASK_ENEMY_BODY;
+        b.createFixture(fd);
+        s.dispose();
+
+        if (player) {
+            PolygonShape ss = new PolygonShape();
+            ss.setAsBox(PhysicsConstants.toMeters(8f), PhysicsConstants.toMeters(2f),
+                new Vector2(0f, PhysicsConstants.toMeters(-24f)), 0f);
+            FixtureDef sfd = new FixtureDef();
+            sfd.shape = ss;
+            sfd.isSensor = true;
+            sfd.filter.categoryBits = CollisionBits.SENSOR;
+            sfd.filter.maskBits = CollisionBits.WORLD;
+            b.createFixture(sfd).setUserData(FixtureTag.PLAYER_GROUND_SENSOR);
+            ss.dispose();
+            b.setUserData(new GameContactListener.GroundContactCounter());
+        }
+        return b;
+    }
+
+    @Benchmark
+    public int frame() {
+        // Staggered hops: each frame 1/HOP_EVERY of the bodies leave the floor (end + later begin contact)
+        for (int i = frame % HOP_EVERY; i < dynamic.length; i += HOP_EVERY) {
+            Body b = dynamic[i];
+            b.setLinearVelocity(b.getLinearVelocity().x, 4f);
+        }
+        frame++;
+
+        world.step(DT, 6, 2);
+        return world.getContactCount();
+    }
+}
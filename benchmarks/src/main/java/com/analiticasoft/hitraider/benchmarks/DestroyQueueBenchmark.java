@@ -0,0 +1,110 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.combat.CombatSystem;
+import com.analiticasoft.hitraider.combat.Damageable;
+import com.analiticasoft.hitraider.combat.Faction;
+import com.analiticasoft.hitraider.combat.HealthComponent;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.analiticasoft.hitraider.physics.PhysicsDestroyQueue;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PhysicsDestroyQueue: queue a batch (every body queued twice, as contact callbacks do) + flush, with HITBOXES
+ * live melee hitboxes for the combat purge pass. The batch is recreated (+ one world step) before each invocation, not measured.
+ * One op = one batch: gc.alloc.rate.norm is what the queue itself allocates per flush.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DestroyQueueBenchmark {
+
+    private static final float DT = 1f / 60f;
+    private static final int HITBOXES = 32;
+
+    @Param({"8", "64", "256"})
+    public int batch;
+
+    private World world;
+    private CombatSystem combat;
+    private final PhysicsDestroyQueue queue = new PhysicsDestroyQueue();
+    private Body[] doomed;
+    private Fixture[] doomedFixtures;
+    private Body holder;
+
+    private static final class Dummy implements Damageable {
+        private final HealthComponent health = new HealthComponent(1_000_000);
+        @Override public Faction getFaction() { return Faction.ENEMY; }
+        @Override public void applyDamage(int amount, Vector2 knockback) {}
+        @Override public boolean isAlive() { return true; }
+        @Override public HealthComponent getHealth() { return health; }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        world = new World(new Vector2(0f, -20f), true);
+        combat = new CombatSystem(world);
+        doomed = new Body[batch];
+        doomedFixtures = new Fixture[batch];
+        holder = body(0f);
+
+        Dummy owner = new Dummy();
+        for (int i = 0; i < HITBOXES; i++) {
+            Body b = body(200f + i * 40f);
+            combat.spawnMeleeHitbox(b, owner, Faction.ENEMY, 1, 0, 1);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        for (int i = 0; i < batch; i++) {
+            doomed[i] = body(i * 10f);
+            doomedFixtures[i] = sensor(holder);
+        }
+        world.step(DT, 6, 2); // as in game: proxies settled, overlapping sensors in contact
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        combat.dispose();
+        world.dispose();
+    }
+
+    private Body body(float xPx) {
+        BodyDef bd = new BodyDef();
+        bd.type = BodyDef.BodyType.DynamicBody;
+        bd.position.set(PhysicsConstants.toMeters(xPx), PhysicsConstants.toMeters(100f));
+        Body b = world.createBody(bd);
+        sensor(b);
+        return b;
+    }
+
+    private static Fixture sensor(Body b) {
+        PolygonShape s = new PolygonShape();
+        s.setAsBox(PhysicsConstants.toMeters(8f), PhysicsConstants.toMeters(8f));
+        FixtureDef fd = new FixtureDef();
+        fd.shape = s;
+        fd.isSensor = true;
+        Fixture f = b.createFixture(fd);
+        s.dispose();
+        return f;
+    }
+
+    @Benchmark
+    public int queueAndFlush() {
+        for (int i = 0; i < batch; i++) {
+            queue.queueBody(doomed[i]);
+            queue.queueFixture(holder, doomedFixtures[i]);
+            queue.queueBody(doomed[i]); // duplicate
+        }
+        queue.flush(world, combat);
+        return queue.lastDestroyed();
+    }
+}
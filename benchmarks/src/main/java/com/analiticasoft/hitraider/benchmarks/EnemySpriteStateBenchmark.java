@@ -0,0 +1,91 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.assets.AnimSet;
+import com.analiticasoft.hitraider.assets.EnemySprites;
+import com.analiticasoft.hitraider.assets.EnemyStateMapper;
+import com.analiticasoft.hitraider.entities.EnemyStore;
+import com.analiticasoft.hitraider.entities.MeleeEnemy;
+import com.analiticasoft.hitraider.entities.RangedEnemy;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-enemy sprite resolution as WorldRenderSystem does it every frame (state mapping + frame pick, minus batch.draw).
+ * One op = one enemy: with -prof gc, gc.alloc.rate.norm is bytes per enemy per frame (should be ~0).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnemySpriteStateBenchmark {
+
+    private static final int ENEMIES = 256;
+    private static final int FRAMES_PER_ANIM = 36;
+
+    private MeleeEnemy.State[] melee;
+    private RangedEnemy.State[] ranged;
+    private byte[] kind;   // EnemyStore columns: melee at 2i, ranged at 2i+1
+    private int[] state;
+    private float[] animTimes;
+    private EnemySprites sprites;
+
+    @Setup
+    public void setup() {
+        Random rng = new Random(42);
+        MeleeEnemy.State[] ms = MeleeEnemy.State.values();
+        RangedEnemy.State[] rs = RangedEnemy.State.values();
+
+        melee = new MeleeEnemy.State[ENEMIES];
+        ranged = new RangedEnemy.State[ENEMIES];
+        kind = new byte[ENEMIES * 2];
+        state = new int[ENEMIES * 2];
+        animTimes = new float[ENEMIES];
+        for (int i = 0; i < ENEMIES; i++) {
+            melee[i] = ms[rng.nextInt(ms.length)];
+            ranged[i] = rs[rng.nextInt(rs.length)];
+            kind[2 * i] = EnemyStore.MELEE;
+            state[2 * i] = melee[i].ordinal();
+            kind[2 * i + 1] = EnemyStore.RANGED;
+            state[2 * i + 1] = ranged[i].ordinal();
+            animTimes[i] = rng.nextFloat() * 3f;
+        }
+
+        // Texture-less regions: frame picking never touches GL
+        sprites = new EnemySprites();
+        fill(sprites.idle); fill(sprites.run); fill(sprites.telegraph);
+        fill(sprites.attack); fill(sprites.hurt); fill(sprites.dead);
+    }
+
+    private static void fill(AnimSet set) {
+        for (int i = 0; i < FRAMES_PER_ANIM; i++) set.addRegion(new TextureRegion());
+    }
+
+    /** Current render path: EnemyStore kind/state columns -> precomputed tables. */
+    @Benchmark
+    @OperationsPerInvocation(ENEMIES * 2)
+    public void storeColumns(Blackhole bh) {
+        for (int i = 0; i < ENEMIES * 2; i++) {
+            bh.consume(frame(EnemyStateMapper.map(kind[i], state[i]), animTimes[i >> 1]));
+        }
+    }
+
+    /** Previous render path: String.valueOf + name rules per enemy per frame. */
+    @Benchmark
+    @OperationsPerInvocation(ENEMIES * 2)
+    public void stringRules(Blackhole bh) {
+        for (int i = 0; i < ENEMIES; i++) {
+            bh.consume(frame(EnemyStateMapper.map(String.valueOf(melee[i])), animTimes[i]));
+            bh.consume(frame(EnemyStateMapper.map(String.valueOf(ranged[i])), animTimes[i]));
+        }
+    }
+
+    private TextureRegion frame(EnemySprites.State st, float t) {
+        return EnemySprites.isOneShot(st) ? sprites.getOnce(st, t) : sprites.get(st, t);
+    }
+}
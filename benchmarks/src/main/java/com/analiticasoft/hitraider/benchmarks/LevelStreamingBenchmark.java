@@ -0,0 +1,89 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.config.GameConfig;
+import com.analiticasoft.hitraider.config.PhysicsTuning;
+import com.analiticasoft.hitraider.entities.Player;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.analiticasoft.hitraider.physics.PhysicsWorld;
+import com.analiticasoft.hitraider.world.LevelChunks;
+import com.analiticasoft.hitraider.world.LevelFactory;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-step cost vs room length: player running right over one long floor + platforms every 300px.
+ * STREAMED = LevelChunks (touch around the player, apply, step; the floor as per-chunk edge pieces) + collectVisible,
+ * ALL = every rect created up front (no streaming) + every rect "drawn".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelStreamingBenchmark {
+
+    private static final float HALF_VIEW_PX = GameConfig.VIRTUAL_W * 0.5f + 96f;
+
+    public enum Geometry { STREAMED, ALL }
+
+    @Param({"2000", "20000", "200000"})
+    public int lengthPx;
+
+    @Param({"STREAMED", "ALL"})
+    public Geometry geometry;
+
+    private PhysicsWorld physics;
+    private Player player;
+    private Array<LevelFactory.PlatformRect> rects;
+    private LevelChunks level;
+    private final Array<LevelFactory.PlatformRect> visible = new Array<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        physics = new PhysicsWorld(new Vector2(0f, PhysicsTuning.GRAVITY_Y));
+
+        rects = new Array<>();
+        rects.add(new LevelFactory.PlatformRect(lengthPx / 2f, 48f, lengthPx, 16f, "ground")); // one floor, as in assets/rooms
+        for (float x = 150f; x < lengthPx; x += 300f) {
+            rects.add(new LevelFactory.PlatformRect(x, 140f + (x % 900f) / 10f, 160f, 12f, "oneway"));
+        }
+
+        if (geometry == Geometry.STREAMED) level = new LevelChunks(physics.world, rects);
+        else for (LevelFactory.PlatformRect r : rects) LevelFactory.createPlatform(physics.world, r);
+
+        player = new Player(physics.world, 120f, 100f);
+        for (int i = 0; i < 60; i++) step();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        physics.dispose();
+    }
+
+    @Benchmark
+    public int step() {
+        float px = player.getXpx();
+        if (px > lengthPx - 200f) {
+            player.body.setTransform(PhysicsConstants.toMeters(120f), PhysicsConstants.toMeters(100f), 0f);
+            px = 120f;
+        }
+        player.body.setLinearVelocity(4f, player.body.getLinearVelocity().y);
+
+        if (level != null) {
+            level.touchRange(px - HALF_VIEW_PX, px + HALF_VIEW_PX);
+            level.apply();
+        }
+        physics.stepFixed();
+
+        if (level != null) return level.collectVisible(px - HALF_VIEW_PX, px + HALF_VIEW_PX, visible).size;
+        int drawn = 0;
+        for (int i = 0; i < rects.size; i++) drawn += rects.get(i).w > 0f ? 1 : 0;
+        return drawn;
+    }
+}
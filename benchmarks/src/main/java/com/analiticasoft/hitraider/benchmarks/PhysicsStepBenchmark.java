@@ -0,0 +1,74 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.combat.CombatSystem;
+import com.analiticasoft.hitraider.combat.ProjectileSystem;
+import com.analiticasoft.hitraider.config.PhysicsTuning;
+import com.analiticasoft.hitraider.entities.MeleeEnemy;
+import com.analiticasoft.hitraider.entities.Player;
+import com.analiticasoft.hitraider.entities.RangedEnemy;
+import com.analiticasoft.hitraider.physics.GameContactListener;
+import com.analiticasoft.hitraider.physics.PhysicsWorld;
+import com.analiticasoft.hitraider.world.LevelFactory;
+import com.analiticasoft.hitraider.world.RoomTemplateRegistry;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PhysicsWorld.stepFixed in the arena_long room with the game's contact listener, player + N enemy bodies (half melee / half ranged).
+ * RESTING = bodies allowed to sleep once they land (idle room), AWAKE = sleeping disabled (every enemy chasing).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhysicsStepBenchmark {
+
+    public enum Regime { RESTING, AWAKE }
+
+    @Param({"50", "200", "800"})
+    public int bodies;
+
+    @Param({"RESTING", "AWAKE"})
+    public Regime regime;
+
+    private PhysicsWorld physics;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        physics = new PhysicsWorld(new Vector2(0f, PhysicsTuning.GRAVITY_Y));
+        physics.world.setContactListener(new GameContactListener(new CombatSystem(physics.world), new ProjectileSystem(physics.world)));
+        RoomTemplateRegistry rooms = new RoomTemplateRegistry();
+        rooms.loadFrom(new FileHandle(RoomTemplateRegistry.ROOMS_DIR)); // jmh runs from assets/
+        LevelFactory.createAll(physics.world, rooms.byId("arena_long").platforms);
+        new Player(physics.world, 120f, 140f);
+
+        for (int i = 0; i < bodies; i++) {
+            float x = 300f + i * 20f;
+            Body b = (i % 2 == 0)
+                ? new MeleeEnemy(physics.world, x, 100f).body
+                : new RangedEnemy(physics.world, x, 100f).body;
+            if (regime == Regime.AWAKE) b.setSleepingAllowed(false);
+        }
+
+        for (int i = 0; i < 120; i++) physics.stepFixed(); // land on the floor
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        physics.dispose();
+    }
+
+    @Benchmark
+    public int step() {
+        physics.stepFixed();
+        return physics.world.getContactCount();
+    }
+}
@@ -0,0 +1,119 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.combat.*;
+import com.analiticasoft.hitraider.physics.CollisionBits;
+import com.analiticasoft.hitraider.physics.GameContactListener;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.analiticasoft.hitraider.physics.PhysicsDestroyQueue;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bullet-hell stress: one gameplay frame (step + flushImpacts + destroy flush + update) with N live projectiles,
+ * BODY (Box2D bullet sensors) vs RAYCAST (bodiless, swept with World.rayCast).
+ * Shots that hit a wall/target are topped up every frame so N stays constant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectileModeBenchmark {
+
+    private static final float DT = 1f / 60f;
+    private static final float ARENA_W_PX = 2000f;
+    private static final float ARENA_H_PX = 600f;
+    private static final int TARGETS = 40;
+
+    @Param({"100", "1000", "5000"})
+    public int live;
+
+    @Param({"BODY", "RAYCAST"})
+    public ProjectileSystem.Mode mode;
+
+    private World world;
+    private CombatSystem combat;
+    private ProjectileSystem projectiles;
+    private PhysicsDestroyQueue destroyQueue;
+    private Random rng;
+
+    /** Static hurtbox that never dies. */
+    private static final class Dummy implements Damageable {
+        private final HealthComponent health = new HealthComponent(1_000_000);
+        @Override public Faction getFaction() { return Faction.ENEMY; }
+        @Override public void applyDamage(int amount, Vector2 knockback) {}
+        @Override public boolean isAlive() { return true; }
+        @Override public HealthComponent getHealth() { return health; }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        rng = new Random(7);
+
+        world = new World(new Vector2(0f, -20f), true);
+        combat = new CombatSystem(world);
+        projectiles = new ProjectileSystem(world, mode);
+        destroyQueue = new PhysicsDestroyQueue();
+        projectiles.setDestroyQueue(destroyQueue);
+        world.setContactListener(new GameContactListener(combat, projectiles));
+
+        // Arena walls
+        box(BodyDef.BodyType.StaticBody, 0f, ARENA_H_PX / 2f, 20f, ARENA_H_PX, CollisionBits.WORLD, CollisionBits.MASK_WORLD_SOLID, "ground");
+        box(BodyDef.BodyType.StaticBody, ARENA_W_PX, ARENA_H_PX / 2f, 20f, ARENA_H_PX, CollisionBits.WORLD, CollisionBits.MASK_WORLD_SOLID, "ground");
+
+        // Enemy hurtboxes in a band across the arena
+        for (int i = 0; i < TARGETS; i++) {
+            float x = 100f + i * (ARENA_W_PX - 200f) / TARGETS;
+            box(BodyDef.BodyType.StaticBody, x, 280f, 28f, 56f, CollisionBits.ENEMY, CollisionBits.MASK_ENEMY_BODY, new Dummy());
+        }
+
+        topUp();
+        for (int i = 0; i < 30; i++) frame(); // let the pool settle
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    private void box(BodyDef.BodyType type, float cxPx, float cyPx, float wPx, float hPx, short cat, short mask, Object userData) {
+        BodyDef bd = new BodyDef();
+        bd.type = type;
+        bd.position.set(PhysicsConstants.toMeters(cxPx), PhysicsConstants.toMeters(cyPx));
+        Body b = world.createBody(bd);
+
+        PolygonShape s = new PolygonShape();
+        s.setAsBox(PhysicsConstants.toMeters(wPx / 2f), PhysicsConstants.toMeters(hPx / 2f));
+        FixtureDef fd = new FixtureDef();
+        fd.shape = s;
+        fd.filter.categoryBits = cat;
+        fd.filter.maskBits = mask;
+        b.createFixture(fd).setUserData(userData);
+        s.dispose();
+    }
+
+    private void topUp() {
+        while (projectiles.projectiles.size < live) {
+            float x = 40f + rng.nextFloat() * (ARENA_W_PX - 80f);
+            float y = 20f + rng.nextFloat() * (ARENA_H_PX - 40f);
+            float vx = rng.nextBoolean() ? 20f : -20f;
+            projectiles.spawn(Faction.PLAYER, 1, x, y, vx, 0f, 10f).piercesLeft = rng.nextInt(2);
+        }
+    }
+
+    @Benchmark
+    public int frame() {
+        world.step(DT, 6, 2);
+        projectiles.flushImpacts();
+        destroyQueue.flush(world, combat);
+        projectiles.update(DT);
+        topUp();
+        return projectiles.consumeImpactsEnemy() + projectiles.consumeImpactsWorld();
+    }
+}
@@ -0,0 +1,40 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.relics.RelicManager;
+import com.analiticasoft.hitraider.relics.RelicType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RelicManager.recompute, through add() (its only caller) on a manager already holding `owned` relics;
+ * the added relic is popped again so every op sees the same set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RelicRecomputeBenchmark {
+
+    private static final RelicType[] TYPES = RelicType.values();
+
+    @Param({"1", "5", "20"})
+    public int owned;
+
+    private final RelicManager relics = new RelicManager();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < owned; i++) relics.add(TYPES[i % TYPES.length]);
+    }
+
+    @Benchmark
+    public float add() {
+        relics.add(TYPES[next++ % TYPES.length]);
+        relics.getOwned().pop();
+        return relics.getFireRateMultiplier();
+    }
+}
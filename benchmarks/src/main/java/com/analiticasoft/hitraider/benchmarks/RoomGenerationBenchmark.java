@@ -0,0 +1,42 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.world.RoomInstance;
+import com.analiticasoft.hitraider.world.RoomInstanceGenerator;
+import com.analiticasoft.hitraider.world.RoomTemplateRegistry;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomInstanceGenerator.generate with the game's templates (assets/rooms), a new seed every op.
+ * rooms = 2 is what a run generates today; longer runs show how it scales.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoomGenerationBenchmark {
+
+    @Param({"2", "20", "100"})
+    public int rooms;
+
+    private final RoomInstanceGenerator generator = new RoomInstanceGenerator();
+    private RoomTemplateRegistry templates;
+    private long seed = 1L;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        templates = new RoomTemplateRegistry();
+        templates.loadFrom(new FileHandle(RoomTemplateRegistry.ROOMS_DIR)); // jmh runs from assets/
+    }
+
+    @Benchmark
+    public int generate() {
+        Array<RoomInstance> out = generator.generate(seed++, rooms, templates);
+        return out.size;
+    }
+}
@@ -0,0 +1,93 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.world.RoomTemplate;
+import com.analiticasoft.hitraider.world.RoomTemplateCodec;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of RoomTemplateRegistry vs template count: COMPILED = RoomTemplateCodec.read of rooms.bin,
+ * JSON = parse + fromJson of one document per template (the dev fallback). Bytes are in memory: no disk in the number.
+ * Templates are synthetic but room-sized (12 spawns, 24 platforms).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoomTemplateLoadBenchmark {
+
+    public enum Source { COMPILED, JSON }
+
+    @Param({"10", "100", "500"})
+    public int templates;
+
+    @Param({"COMPILED", "JSON"})
+    public Source source;
+
+    private byte[] compiled;
+    private String[] json;
+    private final JsonReader reader = new JsonReader();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Array<RoomTemplate> all = new Array<>(templates);
+        json = new String[templates];
+
+        for (int n = 0; n < templates; n++) {
+            RoomTemplate t = new RoomTemplate("room_" + n, 120f, 140f, 1950f);
+            StringBuilder sb = new StringBuilder(2048);
+            sb.append("{\"id\":\"room_").append(n).append("\",\"theme\":\"auto\",\"entry\":{\"x\":120,\"y\":140},\"exitX\":1950,\"spawns\":[");
+            for (int i = 0; i < 12; i++) {
+                float x = 300f + i * 130f, y = 100f + (i % 3) * 60f;
+                t.addSpawn(x, y);
+                sb.append(i > 0 ? "," : "").append('[').append(x).append(',').append(y).append(']');
+            }
+            sb.append("],\"platforms\":[");
+            for (int i = 0; i < 24; i++) {
+                float x = 100f + i * 80f, y = 120f + (i % 5) * 30f;
+                boolean oneWay = i % 4 == 0;
+                t.addPlatform(x, y, 160f, 12f, oneWay);
+                sb.append(i > 0 ? "," : "").append("{\"x\":").append(x).append(",\"y\":").append(y)
+                  .append(",\"w\":160,\"h\":12,\"oneway\":").append(oneWay).append('}');
+            }
+            sb.append("]}");
+            all.add(t);
+            json[n] = sb.toString();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RoomTemplateCodec.write(all, out);
+        compiled = out.toByteArray();
+    }
+
+    @Benchmark
+    public int load() throws IOException {
+        if (source == Source.COMPILED) {
+            return RoomTemplateCodec.read(new ByteArrayInputStream(compiled)).size;
+        }
+        int loaded = 0;
+        for (String s : json) {
+            JsonValue v = reader.parse(s);
+            if (RoomTemplateCodec.fromJson(v) != null) loaded++;
+        }
+        return loaded;
+    }
+
+    /** Size of rooms.bin vs the JSON files for this count (printed once per trial). */
+    @TearDown(Level.Trial)
+    public void report() {
+        long jsonBytes = 0L;
+        for (String s : json) jsonBytes += s.getBytes(StandardCharsets.UTF_8).length;
+        System.out.println("[ROOMS] " + templates + " templates: bin " + compiled.length + " B, json " + jsonBytes + " B");
+    }
+}
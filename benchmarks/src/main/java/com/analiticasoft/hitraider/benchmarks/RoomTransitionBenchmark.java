@@ -0,0 +1,89 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.config.GameConfig;
+import com.analiticasoft.hitraider.controllers.RunController;
+import com.analiticasoft.hitraider.physics.PhysicsDestroyQueue;
+import com.analiticasoft.hitraider.world.RoomInstance;
+import com.analiticasoft.hitraider.world.RoomTemplate;
+import com.analiticasoft.hitraider.world.RoomTemplateRegistry;
+import com.analiticasoft.hitraider.world.RoomType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The sim step where the fade-out ends: platform_climb (empty) -> arena_long with `enemies` (half melee, half ranged).
+ * ONE_SHOT = the whole room in that step (loadCurrentRoom), STAGED = beginRoom + the first spawn batch:
+ * an upper bound of the worst staged step (in game the batches run on the following steps).
+ * The previous room is reloaded (+ one world step) before each invocation, not measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoomTransitionBenchmark {
+
+    public enum Swap { ONE_SHOT, STAGED }
+
+    @Param({"10", "40", "160"})
+    public int enemies;
+
+    @Param({"ONE_SHOT", "STAGED"})
+    public Swap swap;
+
+    private final RunController run = new RunController();
+    private final PhysicsDestroyQueue queue = new PhysicsDestroyQueue();
+    private Array<RoomInstance> rooms;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Box2D.init();
+        run.templates.loadFrom(new FileHandle(RoomTemplateRegistry.ROOMS_DIR)); // jmh runs from assets/
+        RoomTemplate first = run.templates.byId("platform_climb");
+        RoomTemplate second = run.templates.byId("arena_long");
+
+        rooms = new Array<>();
+        rooms.add(room(0L, first, 0));
+        rooms.add(room(1L, second, enemies));
+
+        run.setDestroyQueue(queue);
+        run.buildPhysicsIfNeeded(true);
+    }
+
+    private static RoomInstance room(long seed, RoomTemplate t, int enemies) {
+        RoomInstance r = new RoomInstance(seed, RoomType.COMBAT, t, enemies, enemies / 2, enemies - enemies / 2, 0f);
+        r.spawnOrder.addAll(t.spawns);
+        return r;
+    }
+
+    @Setup(Level.Invocation)
+    public void enterFirstRoom() {
+        run.runRooms = rooms;
+        run.run.start(7L, rooms.size, rooms);
+        run.loadCurrentRoom(false); // also clears the last invocation's enemies
+        run.physics.stepFixed();
+        run.run.next();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        run.combat.dispose();
+        run.physics.dispose();
+    }
+
+    @Benchmark
+    public int transitionStep() {
+        if (swap == Swap.ONE_SHOT) {
+            run.loadCurrentRoom(false);
+        } else {
+            run.beginRoom(false);
+            run.spawnPending(GameConfig.ROOM_SPAWNS_PER_STEP);
+        }
+        return run.enemies.size;
+    }
+}
@@ -0,0 +1,90 @@
+package com.analiticasoft.hitraider.benchmarks;
+
+import com.analiticasoft.hitraider.world.SpatialHash;
+import com.badlogic.gdx.utils.IntArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One AI tick of enemy-enemy separation in a single arena_long room (2000px strip, spawns at 100..230px high):
+ * every enemy moves a little, then asks "who is within SEPARATION_PX of me?".
+ * BRUTE = pairwise distance loop (O(N^2)), GRID = SpatialHash incremental sync + radius query per enemy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpatialHashBenchmark {
+
+    private static final float ROOM_W_PX = 2000f;
+    private static final float FLOOR_MIN_PX = 100f;
+    private static final float FLOOR_MAX_PX = 230f;
+    private static final float SEPARATION_PX = 40f;
+    private static final float STEP_PX = 1.8f * 32f / 60f; // chase speed (m/s) at 32 px/m, one 60 Hz tick
+
+    public enum Index { BRUTE, GRID }
+
+    @Param({"1000", "4000"})
+    public int enemies;
+
+    @Param({"BRUTE", "GRID"})
+    public Index index;
+
+    private float[] xs, ys;
+    private int[] dir;
+    private int[] handles;
+
+    private SpatialHash<Integer> grid;
+    private final IntArray neighbours = new IntArray();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rng = new Random(7);
+        xs = new float[enemies];
+        ys = new float[enemies];
+        dir = new int[enemies];
+        handles = new int[enemies];
+
+        grid = new SpatialHash<>();
+        for (int i = 0; i < enemies; i++) {
+            xs[i] = rng.nextFloat() * ROOM_W_PX;
+            ys[i] = FLOOR_MIN_PX + rng.nextFloat() * (FLOOR_MAX_PX - FLOOR_MIN_PX);
+            dir[i] = rng.nextBoolean() ? 1 : -1;
+            handles[i] = grid.insert(i, xs[i], ys[i]);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        // Chase: walk, bounce off the room edges
+        for (int i = 0; i < enemies; i++) {
+            float x = xs[i] + dir[i] * STEP_PX;
+            if (x < 0f || x > ROOM_W_PX) dir[i] = -dir[i];
+            else xs[i] = x;
+        }
+
+        int pairs = 0;
+        if (index == Index.GRID) {
+            for (int i = 0; i < enemies; i++) grid.update(handles[i], xs[i], ys[i]);
+            for (int i = 0; i < enemies; i++) {
+                neighbours.clear();
+                pairs += grid.queryRadius(xs[i], ys[i], SEPARATION_PX, neighbours) - 1; // minus self
+            }
+        } else {
+            float r2 = SEPARATION_PX * SEPARATION_PX;
+            for (int i = 0; i < enemies; i++) {
+                float x = xs[i], y = ys[i];
+                for (int j = 0; j < enemies; j++) {
+                    if (j == i) continue;
+                    float dx = xs[j] - x, dy = ys[j] - y;
+                    if (dx * dx + dy * dy <= r2) pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+}
@@ -4,16 +4,38 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 
-/** Holds frames + owning textures to dispose safely. */
+/**
+ * Holds frames + owning textures to dispose safely.
+ * Atlas-backed frames are added with {@link #addRegion} and are NOT owned (the atlas disposes its pages).
+ * Sets registered in a SpriteCache stream in on the first {@link #request()} and may be evicted later.
+ */
 public class AnimSet {
     public final Array<Texture> textures = new Array<>();
     public final Array<TextureRegion> frames = new Array<>();
 
+    // Set by SpriteCache.register; null => plain eager set
+    SpriteCache.Entry entry;
+
     public void add(Texture tex) {
         textures.add(tex);
         frames.add(new TextureRegion(tex));
     }
 
+    public void addRegion(TextureRegion region) {
+        frames.add(region);
+    }
+
+    /** Marks the set as used this frame (queues it if lazy and not resident). @return true if it has frames to draw */
+    public boolean request() {
+        if (entry != null) return entry.cache.request(entry);
+        return frames.size > 0;
+    }
+
+    /** Starts streaming a lazy set before anything draws it (no-op for eager / resident sets). */
+    public void prefetch() {
+        if (entry != null) entry.cache.prefetch(entry);
+    }
+
     public TextureRegion frame(int index) {
         if (frames.size == 0) return null;
         if (index < 0) index = 0;
@@ -28,9 +28,18 @@ public class EnemySprites {
 
     public enum State { IDLE, RUN, TELEGRAPH, ATTACK, HURT, DEAD }
 
+    /** Every non-pinned state (idle is always resident). */
+    public void prefetch() {
+        run.prefetch();
+        telegraph.prefetch();
+        attack.prefetch();
+        hurt.prefetch();
+        dead.prefetch();
+    }
+
     public TextureRegion get(State state, float timeSec) {
         AnimSet set = pickSet(state);
-        if (set.frames.size == 0 && idle.frames.size > 0) set = idle;
+        if (!set.request() && idle.frames.size > 0) set = idle; // lazy set still streaming => idle
         if (set.frames.size == 0) return null;
 
         float fps = pickFps(state);
@@ -40,7 +49,7 @@ public class EnemySprites {
 
     public TextureRegion getOnce(State state, float timeSec) {
         AnimSet set = pickSet(state);
-        if (set.frames.size == 0 && idle.frames.size > 0) set = idle;
+        if (!set.request() && idle.frames.size > 0) set = idle; // lazy set still streaming => idle
         if (set.frames.size == 0) return null;
 
         float fps = pickFps(state);
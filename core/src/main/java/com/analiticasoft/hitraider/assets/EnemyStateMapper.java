@@ -1,8 +1,35 @@
 package com.analiticasoft.hitraider.assets;
 
+import com.analiticasoft.hitraider.entities.EnemyStore;
+import com.analiticasoft.hitraider.entities.MeleeEnemy;
+import com.analiticasoft.hitraider.entities.RangedEnemy;
+
+/**
+ * Enemy AI state -> sprite state.
+ * The name rules below run once per enemy type (tables indexed by ordinal);
+ * the render loop only does an array lookup, no String work.
+ */
 public final class EnemyStateMapper {
     private EnemyStateMapper() {}
 
+    private static final EnemySprites.State[] MELEE = table(MeleeEnemy.State.values());
+    private static final EnemySprites.State[] RANGED = table(RangedEnemy.State.values());
+
+    public static EnemySprites.State map(MeleeEnemy.State state) {
+        return (state == null) ? EnemySprites.State.IDLE : MELEE[state.ordinal()];
+    }
+
+    public static EnemySprites.State map(RangedEnemy.State state) {
+        return (state == null) ? EnemySprites.State.IDLE : RANGED[state.ordinal()];
+    }
+
+    /** Store columns (EnemyStore.kind / state ordinal). */
+    public static EnemySprites.State map(byte kind, int stateOrdinal) {
+        EnemySprites.State[] table = (kind == EnemyStore.MELEE) ? MELEE : RANGED;
+        return (stateOrdinal >= 0 && stateOrdinal < table.length) ? table[stateOrdinal] : EnemySprites.State.IDLE;
+    }
+
+    /** Name-based rules (slow path: builds the tables, also usable for states outside these enums). */
     public static EnemySprites.State map(String stateName) {
         if (stateName == null) return EnemySprites.State.IDLE;
         String s = stateName.toUpperCase();
@@ -15,4 +42,10 @@ public final class EnemyStateMapper {
 
         return EnemySprites.State.IDLE;
     }
+
+    private static EnemySprites.State[] table(Enum<?>[] states) {
+        EnemySprites.State[] out = new EnemySprites.State[states.length];
+        for (Enum<?> s : states) out[s.ordinal()] = map(s.name());
+        return out;
+    }
 }
@@ -39,7 +39,7 @@ public class PlayerSprites {
 
     public TextureRegion get(State state, float timeSec) {
         AnimSet set = pickSet(state);
-        if (set.frames.size == 0 && idle.frames.size > 0) set = idle;
+        if (!set.request() && idle.frames.size > 0) set = idle; // lazy set still streaming => idle
         if (set.frames.size == 0) return null;
 
         float fps = pickFps(state);
@@ -50,7 +50,7 @@ public class PlayerSprites {
     /** For one-shot animations: sticks to last frame */
     public TextureRegion getOnce(State state, float timeSec) {
         AnimSet set = pickSet(state);
-        if (set.frames.size == 0 && idle.frames.size > 0) set = idle;
+        if (!set.request() && idle.frames.size > 0) set = idle; // lazy set still streaming => idle
         if (set.frames.size == 0) return null;
 
         float fps = pickFps(state);
@@ -0,0 +1,289 @@
+package com.analiticasoft.hitraider.assets;
+
+import com.analiticasoft.hitraider.config.AssetTuning;
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.function.IntFunction;
+
+/**
+ * Lazy AnimSet residency (owned by SpriteManager):
+ * - A set is queued on the AssetManager the first time PlayerSprites/EnemySprites ask for it;
+ *   until it lands they fall back to idle (same as a missing animation)
+ * - Idle sets are pinned: loaded up front, never evicted
+ * - Texture-memory budget: least-recently-used sets not drawn last frame are evicted above it
+ * - Counters: resident/peak bytes (estimated: w*h*bpp, no mipmaps), hits/misses, loads, evictions
+ */
+public class SpriteCache {
+
+    private enum Status { UNLOADED, LOADING, RESIDENT }
+
+    /** One animation folder: per-animation atlas first, loose PNG frames as fallback. */
+    static final class Entry {
+        final SpriteCache cache;
+        final AnimSet set;
+        final String atlasPath;
+        final String anim;
+        final IntFunction<String> pathFn;
+        final int maxFrames;
+        final boolean pinned;
+
+        // Files this set holds on the AssetManager (unloaded on eviction)
+        final Array<String> files = new Array<>();
+        Status status = Status.UNLOADED;
+        long lastUsed = 0;
+        long bytes = 0;
+
+        Entry(SpriteCache cache, AnimSet set, String atlasPath, String anim,
+              IntFunction<String> pathFn, int maxFrames, boolean pinned) {
+            this.cache = cache;
+            this.set = set;
+            this.atlasPath = atlasPath;
+            this.anim = anim;
+            this.pathFn = pathFn;
+            this.maxFrames = maxFrames;
+            this.pinned = pinned;
+        }
+    }
+
+    private final Array<Entry> entries = new Array<>();
+    private final Array<Entry> loading = new Array<>();
+
+    private AssetManager assets;
+
+    // <= 0 => picked per platform on bind()
+    private long budgetBytes;
+
+    private long frame = 1;
+    private long residentBytes = 0;
+    private long peakBytes = 0;
+    private int hits = 0;
+    private int misses = 0;
+    private int loads = 0;
+    private int evictions = 0;
+    private boolean overBudgetLogged = false;
+
+    void register(AnimSet set, String atlasPath, String anim, IntFunction<String> pathFn, int maxFrames, boolean pinned) {
+        Entry e = new Entry(this, set, atlasPath, anim, pathFn, maxFrames, pinned);
+        set.entry = e;
+        entries.add(e);
+    }
+
+    void bind(AssetManager assets) {
+        this.assets = assets;
+        if (budgetBytes <= 0) {
+            boolean mobile = Gdx.app != null
+                && (Gdx.app.getType() == Application.ApplicationType.Android || Gdx.app.getType() == Application.ApplicationType.iOS);
+            int mb = mobile ? AssetTuning.SPRITE_BUDGET_MB_MOBILE : AssetTuning.SPRITE_BUDGET_MB_DESKTOP;
+            budgetBytes = mb * 1024L * 1024L;
+        }
+    }
+
+    /** Pinned sets (idle) are the fallback for every other state, so they load with the rest of the startup assets. */
+    void queuePinned() {
+        for (int i = 0; i < entries.size; i++) {
+            Entry e = entries.get(i);
+            if (e.pinned && e.status == Status.UNLOADED) queue(e);
+        }
+    }
+
+    /** Marks the set as used this frame. @return true if it is resident with frames to draw */
+    boolean request(Entry e) {
+        e.lastUsed = frame;
+        if (e.status == Status.RESIDENT && e.set.frames.size > 0) {
+            hits++;
+            return true;
+        }
+        misses++;
+        if (e.status == Status.UNLOADED) queue(e);
+        return false;
+    }
+
+    /** Queues the set ahead of its first use (room prefetch); not counted as a hit or miss. */
+    void prefetch(Entry e) {
+        e.lastUsed = frame;
+        if (e.status == Status.UNLOADED) queue(e);
+    }
+
+    private void queue(Entry e) {
+        if (assets == null) return;
+        e.files.clear();
+
+        if (SafeAssets.exists(e.atlasPath)) {
+            assets.load(e.atlasPath, TextureAtlas.class);
+            e.files.add(e.atlasPath);
+        } else {
+            for (int i = 0; i < e.maxFrames; i++) {
+                String path = e.pathFn.apply(i);
+                if (!SafeAssets.exists(path)) break;
+                assets.load(path, Texture.class);
+                e.files.add(path);
+            }
+        }
+
+        e.status = Status.LOADING;
+        loading.add(e);
+    }
+
+    /** Once per frame, after AssetManager.update(): wires finished sets and enforces the budget. */
+    void update() {
+        frame++;
+
+        for (int i = loading.size - 1; i >= 0; i--) {
+            Entry e = loading.get(i);
+            if (!settled(e)) continue;
+            loading.removeIndex(i);
+            wire(e);
+        }
+
+        if (residentBytes > budgetBytes) evictToBudget();
+    }
+
+    /** Every file either loaded or dropped by the AssetManager (failures are logged by its error listener). */
+    private boolean settled(Entry e) {
+        for (int i = 0; i < e.files.size; i++) {
+            String f = e.files.get(i);
+            if (!assets.isLoaded(f) && assets.contains(f)) return false;
+        }
+        return true;
+    }
+
+    private void wire(Entry e) {
+        e.set.dispose();
+        e.bytes = 0;
+
+        if (assets.isLoaded(e.atlasPath, TextureAtlas.class)) {
+            TextureAtlas atlas = assets.get(e.atlasPath, TextureAtlas.class);
+            Array<TextureAtlas.AtlasRegion> regions = atlas.findRegions(e.anim);
+            if (regions.size > 0) {
+                int n = Math.min(regions.size, e.maxFrames);
+                for (int i = 0; i < n; i++) e.set.addRegion(regions.get(i));
+                for (Texture page : atlas.getTextures()) e.bytes += textureBytes(page);
+            } else {
+                // Stale atlas without this animation: rare, load its loose frames synchronously (owned by the set)
+                assets.unload(e.atlasPath);
+                e.files.clear();
+                loadFrames(e.set, e.pathFn, e.maxFrames);
+                for (int i = 0; i < e.set.textures.size; i++) e.bytes += textureBytes(e.set.textures.get(i));
+            }
+        } else {
+            for (int i = 0; i < e.files.size; i++) {
+                String path = e.files.get(i);
+                if (!assets.isLoaded(path, Texture.class)) break;
+                Texture t = assets.get(path, Texture.class);
+                e.set.addRegion(new TextureRegion(t));
+                e.bytes += textureBytes(t);
+            }
+        }
+
+        e.status = Status.RESIDENT;
+        loads++;
+        residentBytes += e.bytes;
+        if (residentBytes > peakBytes) peakBytes = residentBytes;
+    }
+
+    private void loadFrames(AnimSet set, IntFunction<String> pathFn, int maxFrames) {
+        for (int i = 0; i < maxFrames; i++) {
+            Texture t = SafeAssets.textureOrNull(pathFn.apply(i));
+            if (t == null) break;
+            set.add(t);
+        }
+    }
+
+    private void evictToBudget() {
+        while (residentBytes > budgetBytes) {
+            Entry lru = null;
+            for (int i = 0; i < entries.size; i++) {
+                Entry e = entries.get(i);
+                // Sets drawn last frame stay: evicting them would just reload them next frame
+                if (e.pinned || e.status != Status.RESIDENT || e.lastUsed >= frame - 1) continue;
+                if (lru == null || e.lastUsed < lru.lastUsed) lru = e;
+            }
+
+            if (lru == null) {
+                if (!overBudgetLogged && Gdx.app != null) {
+                    Gdx.app.log("SPRITES", "Over budget: " + mb(residentBytes) + "/" + mb(budgetBytes) + " MB, nothing evictable");
+                }
+                overBudgetLogged = true;
+                return;
+            }
+            evict(lru);
+        }
+        overBudgetLogged = false;
+    }
+
+    private void evict(Entry e) {
+        for (int i = 0; i < e.files.size; i++) {
+            String f = e.files.get(i);
+            if (assets.isLoaded(f)) assets.unload(f);
+        }
+        e.files.clear();
+        e.set.dispose();
+
+        residentBytes -= e.bytes;
+        e.bytes = 0;
+        e.status = Status.UNLOADED;
+        evictions++;
+
+        if (Gdx.app != null) Gdx.app.debug("SPRITES", "Evicted " + e.atlasPath + ":" + e.anim);
+    }
+
+    /** Drops every set (files stay on the AssetManager; SpriteManager clears it right after). */
+    void reset() {
+        for (int i = 0; i < entries.size; i++) {
+            Entry e = entries.get(i);
+            e.set.dispose();
+            e.files.clear();
+            e.status = Status.UNLOADED;
+            e.bytes = 0;
+            e.lastUsed = 0;
+        }
+        loading.clear();
+        residentBytes = 0;
+        overBudgetLogged = false;
+    }
+
+    private static long textureBytes(Texture t) {
+        Pixmap.Format f = t.getTextureData().getFormat();
+        int bpp = 4;
+        if (f != null) {
+            bpp = switch (f) {
+                case Alpha, Intensity -> 1;
+                case LuminanceAlpha, RGB565, RGBA4444 -> 2;
+                case RGB888 -> 3;
+                default -> 4;
+            };
+        }
+        return (long) t.getWidth() * t.getHeight() * bpp;
+    }
+
+    private static long mb(long bytes) {
+        return bytes / (1024L * 1024L);
+    }
+
+    // Budget
+    public void setBudgetBytes(long bytes) { budgetBytes = bytes; }
+    public void setBudgetMb(int mb) { budgetBytes = mb * 1024L * 1024L; }
+    public long budgetBytes() { return budgetBytes; }
+
+    // Stats
+    public long residentBytes() { return residentBytes; }
+    public long peakBytes() { return peakBytes; }
+    public int hits() { return hits; }
+    public int misses() { return misses; }
+    public int loads() { return loads; }
+    public int evictions() { return evictions; }
+    public int pending() { return loading.size; }
+
+    /** 0..1 over every lookup so far. */
+    public float hitRate() {
+        int total = hits + misses;
+        return total == 0 ? 1f : hits / (float) total;
+    }
+}
@@ -1,5 +1,7 @@
 package com.analiticasoft.hitraider.assets;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
@@ -8,12 +10,20 @@ import java.util.function.IntFunction;
 /**
  * Central Sprite System:
  * - Loads player/enemy/UI/backgrounds safely
+ * - Character frames come from per-animation atlases when packed, otherwise from the loose per-frame PNGs
+ * - Character animations are lazy (SpriteCache): idle up front, the rest on first use, LRU-evicted over budget
+ * - Async: queueLoad() + update(budgetMs) decode on a worker thread and upload
+ *   within a per-frame budget (see LoadingScreen); load() stays as the blocking path
  * - Missing assets => null/fallback
  * - reload() supported
  */
 public class SpriteManager {
 
     private boolean loaded = false;
+    private boolean queued = false;
+
+    // Backing loader (created lazily so headless contexts never spin up its executor)
+    private AssetManager assets;
 
     // UI
     private Texture legionTex;
@@ -39,53 +49,147 @@ public class SpriteManager {
     private final EnemySprites eldarMelee = new EnemySprites();
     private final EnemySprites eldarRanged = new EnemySprites();
 
+    // Lazy character animations (budget + LRU)
+    private final SpriteCache cache = new SpriteCache();
+
+    public SpriteManager() {
+        // Player sequences
+        anim(player.idle, SpritePaths.ATLAS_PLAYER, "idle", SpritePaths::pIdle, 64);
+        anim(player.run, SpritePaths.ATLAS_PLAYER, "run", SpritePaths::pRun, 64);
+        anim(player.jump, SpritePaths.ATLAS_PLAYER, "jump", SpritePaths::pJump, 32);
+        anim(player.fall, SpritePaths.ATLAS_PLAYER, "fall", SpritePaths::pFall, 32);
+        anim(player.dash, SpritePaths.ATLAS_PLAYER, "dash", SpritePaths::pDash, 32);
+        anim(player.attack, SpritePaths.ATLAS_PLAYER, "attack", SpritePaths::pAttack, 64);
+        anim(player.shoot, SpritePaths.ATLAS_PLAYER, "shoot", SpritePaths::pShoot, 64);
+        anim(player.hurt, SpritePaths.ATLAS_PLAYER, "hurt", SpritePaths::pHurt, 32);
+        anim(player.dead, SpritePaths.ATLAS_PLAYER, "dead", SpritePaths::pDead, 32);
+
+        // Enemy melee
+        anim(eldarMelee.idle, SpritePaths.ATLAS_ELDAR_MELEE, "idle", SpritePaths::emIdle, 64);
+        anim(eldarMelee.run, SpritePaths.ATLAS_ELDAR_MELEE, "run", SpritePaths::emRun, 64);
+        anim(eldarMelee.telegraph, SpritePaths.ATLAS_ELDAR_MELEE, "telegraph", SpritePaths::emTelegraph, 64);
+        anim(eldarMelee.attack, SpritePaths.ATLAS_ELDAR_MELEE, "attack", SpritePaths::emAttack, 64);
+        anim(eldarMelee.hurt, SpritePaths.ATLAS_ELDAR_MELEE, "hurt", SpritePaths::emHurt, 32);
+        anim(eldarMelee.dead, SpritePaths.ATLAS_ELDAR_MELEE, "dead", SpritePaths::emDead, 32);
+
+        // Enemy ranged
+        anim(eldarRanged.idle, SpritePaths.ATLAS_ELDAR_RANGED, "idle", SpritePaths::erIdle, 64);
+        anim(eldarRanged.run, SpritePaths.ATLAS_ELDAR_RANGED, "run", SpritePaths::erRun, 64);
+        anim(eldarRanged.telegraph, SpritePaths.ATLAS_ELDAR_RANGED, "telegraph", SpritePaths::erTelegraph, 64);
+        anim(eldarRanged.attack, SpritePaths.ATLAS_ELDAR_RANGED, "shoot", SpritePaths::erShoot, 64);
+        anim(eldarRanged.hurt, SpritePaths.ATLAS_ELDAR_RANGED, "hurt", SpritePaths::erHurt, 32);
+        anim(eldarRanged.dead, SpritePaths.ATLAS_ELDAR_RANGED, "dead", SpritePaths::erDead, 32);
+    }
+
+    /** Idle is pinned: it is what every other state shows while its own set streams in. */
+    private void anim(AnimSet set, String atlasDir, String anim, IntFunction<String> pathFn, int maxFrames) {
+        cache.register(set, SpritePaths.atlas(atlasDir, anim), anim, pathFn, maxFrames, "idle".equals(anim));
+    }
+
+    /** Blocking load (F5 reload / fallback). Prefer queueLoad() + update() behind a loading screen. */
     public void load() {
         if (loaded) return;
-        loaded = true;
+        queueLoad();
+        assets.finishLoading();
+        cache.update();
+        finishLoad();
+    }
+
+    /**
+     * Queues every existing startup sprite file (UI, backgrounds, world, pinned idle sets) on the AssetManager.
+     * Pixmaps decode on its worker thread; GL uploads happen inside update().
+     */
+    public void queueLoad() {
+        if (loaded || queued) return;
+        queued = true;
+
+        if (assets == null) {
+            assets = new AssetManager();
+            assets.setErrorListener((desc, t) -> {
+                if (Gdx.app != null) Gdx.app.error("ASSET", "Failed: " + desc.fileName + " (" + t.getMessage() + ")");
+            });
+            cache.bind(assets);
+        }
 
         // UI
-        legionTex = SafeAssets.textureOrNull(SpritePaths.LEGION_SALAMANDERS);
-        legionSalamanders = (legionTex != null) ? new TextureRegion(legionTex) : null;
-        screenMenu = SafeAssets.textureOrNull(SpritePaths.SCREEN_MENU);
-        screenWin = SafeAssets.textureOrNull(SpritePaths.SCREEN_WIN);
+        queueTexture(SpritePaths.LEGION_SALAMANDERS);
+        queueTexture(SpritePaths.SCREEN_MENU);
+        queueTexture(SpritePaths.SCREEN_WIN);
 
         // Backgrounds
-        forestBase = SafeAssets.textureOrNull(SpritePaths.FOREST_BASE);
-        forestMid  = SafeAssets.textureOrNull(SpritePaths.FOREST_MID);
-        castleBase = SafeAssets.textureOrNull(SpritePaths.CASTLE_BASE);
-        castleMid  = SafeAssets.textureOrNull(SpritePaths.CASTLE_MID);
+        queueTexture(SpritePaths.FOREST_BASE);
+        queueTexture(SpritePaths.FOREST_MID);
+        queueTexture(SpritePaths.CASTLE_BASE);
+        queueTexture(SpritePaths.CASTLE_MID);
 
         // World & Combat
-        bullet = SafeAssets.textureOrNull(SpritePaths.BULLET);
-        platformGround = SafeAssets.textureOrNull(SpritePaths.PLATFORM_GROUND);
-        platformOneway = SafeAssets.textureOrNull(SpritePaths.PLATFORM_ONEWAY);
+        queueTexture(SpritePaths.BULLET);
+        queueTexture(SpritePaths.PLATFORM_GROUND);
+        queueTexture(SpritePaths.PLATFORM_ONEWAY);
 
-        // Player sequences
-        loadFrames(player.idle, SpritePaths::pIdle, 64);
-        loadFrames(player.run, SpritePaths::pRun, 64);
-        loadFrames(player.jump, SpritePaths::pJump, 32);
-        loadFrames(player.fall, SpritePaths::pFall, 32);
-        loadFrames(player.dash, SpritePaths::pDash, 32);
-        loadFrames(player.attack, SpritePaths::pAttack, 64);
-        loadFrames(player.shoot, SpritePaths::pShoot, 64);
-        loadFrames(player.hurt, SpritePaths::pHurt, 32);
-        loadFrames(player.dead, SpritePaths::pDead, 32);
+        // Characters: only the pinned sets, the rest stream in on first use
+        cache.queuePinned();
+    }
 
-        // Enemy melee
-        loadFrames(eldarMelee.idle, SpritePaths::emIdle, 64);
-        loadFrames(eldarMelee.run, SpritePaths::emRun, 64);
-        loadFrames(eldarMelee.telegraph, SpritePaths::emTelegraph, 64);
-        loadFrames(eldarMelee.attack, SpritePaths::emAttack, 64);
-        loadFrames(eldarMelee.hurt, SpritePaths::emHurt, 32);
-        loadFrames(eldarMelee.dead, SpritePaths::emDead, 32);
+    /**
+     * Advances loading, spending at most budgetMs on the render thread.
+     * Keep calling it every frame after startup: lazy sets stream in (and get evicted) here.
+     * @return true once the startup assets are loaded and wired
+     */
+    public boolean update(int budgetMs) {
+        if (!loaded && !queued) queueLoad();
+        boolean idle = assets.update(budgetMs);
+        cache.update();
+        if (loaded) return true;
+        if (!idle) return false;
+        finishLoad();
+        return true;
+    }
 
-        // Enemy ranged
-        loadFrames(eldarRanged.idle, SpritePaths::erIdle, 64);
-        loadFrames(eldarRanged.run, SpritePaths::erRun, 64);
-        loadFrames(eldarRanged.telegraph, SpritePaths::erTelegraph, 64);
-        loadFrames(eldarRanged.attack, SpritePaths::erShoot, 64);
-        loadFrames(eldarRanged.hurt, SpritePaths::erHurt, 32);
-        loadFrames(eldarRanged.dead, SpritePaths::erDead, 32);
+    /** Streams the combat animations of the enemy kinds a coming room spawns, so they are resident when it starts. */
+    public void prefetchEnemies(boolean melee, boolean ranged) {
+        if (melee) eldarMelee.prefetch();
+        if (ranged) eldarRanged.prefetch();
+    }
+
+    /** 0..1 */
+    public float progress() {
+        if (loaded) return 1f;
+        if (assets == null) return 0f;
+        return assets.getProgress();
+    }
+
+    public boolean isLoaded() { return loaded; }
+
+    private void queueTexture(String path) {
+        if (SafeAssets.exists(path)) assets.load(path, Texture.class);
+        else if (Gdx.app != null) Gdx.app.log("ASSET", "Missing: " + path);
+    }
+
+    private Texture loadedTexture(String path) {
+        return assets.isLoaded(path, Texture.class) ? assets.get(path, Texture.class) : null;
+    }
+
+    private void finishLoad() {
+        loaded = true;
+        queued = false;
+
+        // UI
+        legionTex = loadedTexture(SpritePaths.LEGION_SALAMANDERS);
+        legionSalamanders = (legionTex != null) ? new TextureRegion(legionTex) : null;
+        screenMenu = loadedTexture(SpritePaths.SCREEN_MENU);
+        screenWin = loadedTexture(SpritePaths.SCREEN_WIN);
+
+        // Backgrounds
+        forestBase = loadedTexture(SpritePaths.FOREST_BASE);
+        forestMid  = loadedTexture(SpritePaths.FOREST_MID);
+        castleBase = loadedTexture(SpritePaths.CASTLE_BASE);
+        castleMid  = loadedTexture(SpritePaths.CASTLE_MID);
+
+        // World & Combat
+        bullet = loadedTexture(SpritePaths.BULLET);
+        platformGround = loadedTexture(SpritePaths.PLATFORM_GROUND);
+        platformOneway = loadedTexture(SpritePaths.PLATFORM_ONEWAY);
 
         // Tuning via VisualTuning
         applyVisualTuning();
@@ -137,18 +241,11 @@ public class SpriteManager {
         }
     }
 
-    private void loadFrames(AnimSet set, IntFunction<String> pathFn, int maxFrames) {
-        for (int i = 0; i < maxFrames; i++) {
-            Texture t = SafeAssets.textureOrNull(pathFn.apply(i));
-            if (t == null) break;
-            set.add(t);
-        }
-    }
-
     // Getters
     public PlayerSprites player() { return player; }
     public EnemySprites eldarMelee() { return eldarMelee; }
     public EnemySprites eldarRanged() { return eldarRanged; }
+    public SpriteCache cache() { return cache; }
 
     public TextureRegion legionSalamanders() { return legionSalamanders; }
 
@@ -164,29 +261,21 @@ public class SpriteManager {
 
     public void reload() {
         dispose();
-        loaded = false;
         load();
     }
 
+    /** Releases everything loaded; the manager can be loaded again afterwards. */
     public void dispose() {
-        player.dispose();
-        eldarMelee.dispose();
-        eldarRanged.dispose();
+        // AnimSets only own fallback textures; atlas pages + loose frames belong to the AssetManager
+        cache.reset();
+
+        if (assets != null) assets.clear();
+        loaded = false;
+        queued = false;
 
-        if (legionTex != null) legionTex.dispose();
         legionTex = null;
         legionSalamanders = null;
 
-        if (forestBase != null) forestBase.dispose();
-        if (forestMid != null) forestMid.dispose();
-        if (castleBase != null) castleBase.dispose();
-        if (castleMid != null) castleMid.dispose();
-        if (bullet != null) bullet.dispose();
-        if (platformGround != null) platformGround.dispose();
-        if (platformOneway != null) platformOneway.dispose();
-        if (screenMenu != null) screenMenu.dispose();
-        if (screenWin != null) screenWin.dispose();
-
         forestBase = null;
         forestMid = null;
         castleBase = null;
@@ -197,4 +286,11 @@ public class SpriteManager {
         screenMenu = null;
         screenWin = null;
     }
+
+    /** App exit: dispose() + the AssetManager itself (its async loader executor included). */
+    public void shutdown() {
+        dispose();
+        if (assets != null) assets.dispose();
+        assets = null;
+    }
 }
@@ -12,6 +12,12 @@ public final class SpritePaths {
     public static final String BG = ROOT + "backgrounds/";
     public static final String WORLD = ROOT + "world/";
 
+    // Packed atlases, one per animation folder (generated by the root `packSprites` Gradle task)
+    public static final String ATLAS = "atlas/";
+    public static final String ATLAS_PLAYER = ATLAS + "player/";
+    public static final String ATLAS_ELDAR_MELEE = ATLAS + "eldar_melee/";
+    public static final String ATLAS_ELDAR_RANGED = ATLAS + "eldar_ranged/";
+
     // UI
     public static final String LEGION_SALAMANDERS = UI + "legions/salamanders.png";
     public static final String SCREEN_MENU = UI + "screens/menu_bg.png";
@@ -59,6 +65,9 @@ public final class SpritePaths {
     public static String erHurt(int i)      { return ELDAR_RANGED + "hurt/hurt_" + f(i) + ".png"; }
     public static String erDead(int i)      { return ELDAR_RANGED + "dead/dead_" + f(i) + ".png"; }
 
+    /** Atlas for one animation folder, e.g. (ATLAS_PLAYER, "idle") -> "atlas/player/idle.atlas"; regions are named after the folder. */
+    public static String atlas(String atlasDir, String anim) { return atlasDir + anim + ".atlas"; }
+
     // Weapons (optional)
     public static String wIcon(String weaponFolder) { return WEAPONS + weaponFolder + "/icon.png"; }
     public static String wIdle(String weaponFolder, int i)  { return WEAPONS + weaponFolder + "/idle/idle_" + f(i) + ".png"; }
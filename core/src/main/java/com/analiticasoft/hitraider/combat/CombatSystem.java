@@ -2,13 +2,21 @@ package com.analiticasoft.hitraider.combat;
 
 import com.analiticasoft.hitraider.physics.CollisionBits;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.analiticasoft.hitraider.world.SpatialHash;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Melee hitboxes without per-swing garbage:
+ * - 6 pre-built sensor shapes (facing x aim) + one reused FixtureDef
+ * - Hitbox records pooled; active list is slot-indexed (swap-remove), owner lookup is an identity map
+ * - Fixtures are still created/destroyed per swing (Box2D has no per-fixture enable), outside world.step()
+ */
 public class CombatSystem {
 
     private final World world;
@@ -21,18 +29,24 @@ public class CombatSystem {
     private static final float ATTACKER_RECOIL_X = 1.2f;
     private static final float ATTACKER_RECOIL_Y = 0.2f;
 
-    private static class ActiveHitbox {
-        final Body ownerBody;
-        final Fixture fixture;
-        final Hitbox hitbox;
-        ActiveHitbox(Body ownerBody, Fixture fixture, Hitbox hitbox) {
-            this.ownerBody = ownerBody;
-            this.fixture = fixture;
-            this.hitbox = hitbox;
-        }
-    }
+    // Hitbox geometry (px): same box for every owner, offset by facing + aim
+    private static final float HALF_W_PX = 30f;
+    private static final float HALF_H_PX = 18f; // Increase height a bit too for safety
+
+    // [facing (0 = left, 1 = right) * 3 + aim (0 = down, 1 = neutral, 2 = up)]
+    private final PolygonShape[] shapes = new PolygonShape[6];
+    private final FixtureDef hitboxDef = new FixtureDef();
+
+    private final Pool<Hitbox> hitboxPool = new Pool<>(16) {
+        @Override protected Hitbox newObject() { return new Hitbox(); }
+    };
+    private final Array<Hitbox> active = new Array<>(false, 16);
+    private final IdentityMap<Body, Hitbox> byOwner = new IdentityMap<>();
+
+    private final Array<Fixture> debugFixtures = new Array<>();
+    private final Vector2 knock = new Vector2();
+    private final IntArray areaHits = new IntArray();
 
-    private final List<ActiveHitbox> active = new ArrayList<>();
     private boolean hitThisFrame = false;
 
     // Impact flags
@@ -42,6 +56,53 @@ public class CombatSystem {
 
     public CombatSystem(World world) {
         this.world = world;
+
+        for (int facing = 0; facing < 2; facing++) {
+            int dir = (facing == 0) ? -1 : 1;
+            for (int aim = -1; aim <= 1; aim++) {
+                shapes[shapeIndex(dir, aim)] = buildShape(dir, aim);
+            }
+        }
+
+        hitboxDef.isSensor = true;
+
+        // ✅ Hitbox should only detect bodies (PLAYER/ENEMY), not world/pickups/sensors
+        hitboxDef.filter.categoryBits = CollisionBits.HITBOX;
+        hitboxDef.filter.maskBits = CollisionBits.MASK_HITBOX;
+    }
+
+    private static int shapeIndex(int facingDir, int aimY) {
+        int facing = (facingDir < 0) ? 0 : 1;
+        int aim = (aimY < 0) ? 0 : (aimY > 0 ? 2 : 1);
+        return facing * 3 + aim;
+    }
+
+    private static PolygonShape buildShape(int facingDir, int aimY) {
+        float halfW = PhysicsConstants.toMeters(HALF_W_PX);
+        float halfH = PhysicsConstants.toMeters(HALF_H_PX);
+
+        float offsetX = PhysicsConstants.toMeters(30f) * facingDir;
+        float offsetY = 0f;
+
+        if (aimY == 1) {
+            offsetX = PhysicsConstants.toMeters(10f) * facingDir;
+            offsetY = PhysicsConstants.toMeters(16f);
+        } else if (aimY == -1) {
+            offsetX = PhysicsConstants.toMeters(10f) * facingDir;
+            offsetY = PhysicsConstants.toMeters(-14f);
+        }
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfW, halfH, new Vector2(offsetX, offsetY), 0f);
+        return shape;
+    }
+
+    /** Releases the pre-built shapes (native). Call when the World goes away. */
+    public void dispose() {
+        for (int i = 0; i < shapes.length; i++) {
+            if (shapes[i] != null) shapes[i].dispose();
+            shapes[i] = null;
+        }
     }
 
     public void beginFrame() {
@@ -76,23 +137,28 @@ public class CombatSystem {
         meleeWorldHitThisFrame = true;
     }
 
-    /** Debug: active hitbox fixtures */
-    public List<Fixture> getActiveHitboxFixtures() {
-        List<Fixture> out = new ArrayList<>(active.size());
-        for (ActiveHitbox ah : active) out.add(ah.fixture);
-        return out;
+    /** Debug: active hitbox fixtures (reused array, valid until the next call) */
+    public Array<Fixture> getActiveHitboxFixtures() {
+        debugFixtures.clear();
+        for (int i = 0; i < active.size; i++) debugFixtures.add(active.get(i).fixture);
+        return debugFixtures;
     }
 
+    public int activeHitboxCount() { return active.size; }
+
     /** Call before destroying a body to avoid stale fixtures causing crashes. */
     public void purgeForBody(Body body) {
         if (body == null) return;
-        Iterator<ActiveHitbox> it = active.iterator();
-        while (it.hasNext()) {
-            ActiveHitbox ah = it.next();
-            if (ah.ownerBody == body) {
-                safeDestroyFixture(body, ah.fixture);
-                it.remove();
-            }
+        Hitbox hb = byOwner.get(body);
+        if (hb != null) release(hb);
+    }
+
+    /** Batched purge (PhysicsDestroyQueue.flush): one pass over active hitboxes for a whole set of bodies. */
+    public void purgeForBodies(ObjectSet<Body> doomed) {
+        if (doomed == null || doomed.size == 0) return;
+        for (int i = active.size - 1; i >= 0; i--) {
+            Hitbox hb = active.get(i);
+            if (doomed.contains(hb.ownerBody)) release(hb);
         }
     }
 
@@ -104,58 +170,42 @@ public class CombatSystem {
                                  int damage) {
 
         // Only one hitbox per owner body at a time
-        for (ActiveHitbox ah : active) {
-            if (ah.ownerBody == ownerBody) return;
-        }
-
-        float halfW = PhysicsConstants.toMeters(30f);
-        float halfH = PhysicsConstants.toMeters(18f); // Increase height a bit too for safety
-
-        float offsetX = PhysicsConstants.toMeters(30f) * facingDir;
-        float offsetY = 0f;
-
-        if (aimY == 1) {
-            offsetX = PhysicsConstants.toMeters(10f) * facingDir;
-            offsetY = PhysicsConstants.toMeters(16f);
-        } else if (aimY == -1) {
-            offsetX = PhysicsConstants.toMeters(10f) * facingDir;
-            offsetY = PhysicsConstants.toMeters(-14f);
-        }
+        if (byOwner.containsKey(ownerBody)) return;
 
-        PolygonShape shape = new PolygonShape();
-        shape.setAsBox(halfW, halfH, new Vector2(offsetX, offsetY), 0f);
-
-        FixtureDef fd = new FixtureDef();
-        fd.shape = shape;
-        fd.isSensor = true;
-
-        // ✅ Hitbox should only detect bodies (PLAYER/ENEMY), not world/pickups/sensors
-        fd.filter.categoryBits = CollisionBits.HITBOX;
-        fd.filter.maskBits = CollisionBits.MASK_HITBOX;
+        hitboxDef.shape = shapes[shapeIndex(facingDir, aimY)];
+        Fixture fx = ownerBody.createFixture(hitboxDef);
 
-        Fixture fx = ownerBody.createFixture(fd);
-
-        Hitbox hb = new Hitbox(DEFAULT_MELEE_DURATION, damage, ownerFaction, owner);
+        Hitbox hb = hitboxPool.obtain().init(DEFAULT_MELEE_DURATION, damage, ownerFaction, owner, ownerBody, fx);
         fx.setUserData(hb);
 
-        shape.dispose();
-
-        active.add(new ActiveHitbox(ownerBody, fx, hb));
+        hb.slot = active.size;
+        active.add(hb);
+        byOwner.put(ownerBody, hb);
     }
 
     public void update(float delta) {
-        Iterator<ActiveHitbox> it = active.iterator();
-        while (it.hasNext()) {
-            ActiveHitbox ah = it.next();
-            ah.hitbox.timeLeft -= delta;
-
-            if (ah.hitbox.timeLeft <= 0f) {
-                safeDestroyFixture(ah.ownerBody, ah.fixture);
-                it.remove();
-            }
+        for (int i = active.size - 1; i >= 0; i--) {
+            Hitbox hb = active.get(i);
+            hb.timeLeft -= delta;
+            if (hb.timeLeft <= 0f) release(hb);
         }
     }
 
+    /** Destroys the fixture and returns the record; swap-remove keeps slots dense. */
+    private void release(Hitbox hb) {
+        safeDestroyFixture(hb.ownerBody, hb.fixture);
+        byOwner.remove(hb.ownerBody);
+
+        int slot = hb.slot;
+        Hitbox last = active.pop();
+        if (last != hb) {
+            active.set(slot, last);
+            last.slot = slot;
+        }
+
+        hitboxPool.free(hb);
+    }
+
     private void safeDestroyFixture(Body body, Fixture fixture) {
         if (body == null || fixture == null) return;
         if (body.getWorld() == null) return;
@@ -164,6 +214,36 @@ public class CombatSystem {
         body.destroyFixture(fixture);
     }
 
+    /**
+     * Area effect (no fixtures, no contacts): damages every live target of another faction within radiusPx,
+     * knocked back away from the center. Returns how many were hit.
+     */
+    public int applyAreaDamage(SpatialHash<? extends Damageable> targets,
+                               float xPx, float yPx, float radiusPx,
+                               int damage, Faction sourceFaction) {
+        if (targets == null) return 0;
+
+        areaHits.clear();
+        targets.queryRadius(xPx, yPx, radiusPx, areaHits);
+
+        int hits = 0;
+        for (int i = 0; i < areaHits.size; i++) {
+            int h = areaHits.get(i);
+            Damageable target = targets.get(h);
+            if (!target.isAlive() || target.getFaction() == sourceFaction) continue;
+
+            float dir = (targets.x(h) >= xPx) ? 1f : -1f;
+            target.applyDamage(damage, knock.set(dir * KNOCKBACK_X, KNOCKBACK_Y));
+
+            if (target.getFaction() == Faction.PLAYER) playerHurtThisFrame = true;
+            if (target.getFaction() == Faction.ENEMY) enemyHurtThisFrame = true;
+            hits++;
+        }
+
+        if (hits > 0) hitThisFrame = true;
+        return hits;
+    }
+
     public void handleHitboxContact(Fixture hitboxFix, Fixture otherFix) {
         if (hitboxFix == null || otherFix == null) return;
         if (!Hitbox.isHitboxFixture(hitboxFix)) return;
@@ -183,8 +263,7 @@ public class CombatSystem {
         float ox = otherFix.getBody().getPosition().x;
         float dir = (ox >= hx) ? 1f : -1f;
 
-        Vector2 knock = new Vector2(dir * KNOCKBACK_X, KNOCKBACK_Y);
-        target.applyDamage(hb.damage, knock);
+        target.applyDamage(hb.damage, knock.set(dir * KNOCKBACK_X, KNOCKBACK_Y));
         hb.markHit(target);
 
         // recoil attacker
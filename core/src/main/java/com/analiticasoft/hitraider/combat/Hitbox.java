@@ -1,36 +1,60 @@
 package com.analiticasoft.hitraider.combat;
 
+import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
-
-import java.util.HashSet;
-import java.util.Set;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * UserData for melee hitbox fixtures.
  * Tracks timeLeft + damage + faction + owner + already-hit targets.
+ * Pooled by CombatSystem: one live record per owner body, slot = index in its active list.
  */
-public class Hitbox {
+public class Hitbox implements Pool.Poolable {
 
     public float timeLeft;
-    public final int damage;
-    public final Faction ownerFaction;
-    public final Damageable owner;
+    public int damage;
+    public Faction ownerFaction;
+    public Damageable owner;
+
+    // Owned by CombatSystem
+    Body ownerBody;
+    Fixture fixture;
+    int slot = -1;
 
-    private final Set<Damageable> hit = new HashSet<>();
+    // Identity set: a swing touches 1-3 targets, a linear == scan beats hashing
+    private final Array<Damageable> hit = new Array<>(false, 4);
 
-    public Hitbox(float duration, int damage, Faction ownerFaction, Damageable owner) {
+    Hitbox init(float duration, int damage, Faction ownerFaction, Damageable owner, Body ownerBody, Fixture fixture) {
         this.timeLeft = duration;
         this.damage = damage;
         this.ownerFaction = ownerFaction;
         this.owner = owner;
+        this.ownerBody = ownerBody;
+        this.fixture = fixture;
+        return this;
     }
 
     public boolean canHit(Damageable target) {
-        return !hit.contains(target);
+        return !hit.contains(target, true);
     }
 
     public void markHit(Damageable target) {
-        hit.add(target);
+        if (canHit(target)) hit.add(target);
+    }
+
+    public Fixture fixture() { return fixture; }
+
+    @Override
+    public void reset() {
+        timeLeft = 0f;
+        damage = 0;
+        ownerFaction = null;
+        owner = null;
+        ownerBody = null;
+        fixture = null;
+        slot = -1;
+        hit.clear();
     }
 
     public static boolean isHitboxFixture(Fixture f) {
@@ -3,19 +3,27 @@ package com.analiticasoft.hitraider.combat;
 import com.analiticasoft.hitraider.physics.CollisionBits;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Pool;
 
 import java.util.concurrent.atomic.AtomicLong;
 
-public class Projectile {
+/**
+ * Pooled projectile (see ProjectilePool):
+ * - BODY mode: body + sensor fixture are created once, then parked inactive between shots
+ * - RAYCAST mode: no body (body == null); ProjectileSystem integrates xM/yM and sweeps it with World.rayCast
+ * - spawn() re-arms it, reset() parks it; both only outside world.step()
+ */
+public class Projectile implements Pool.Poolable {
 
     private static final AtomicLong SEQ = new AtomicLong(1);
 
     public enum State { ALIVE, IMPACT }
 
-    public final long id;
+    // New id per shot (the instance itself is recycled)
+    public long id;
     public final Body body;
-    public final Faction faction;
-    public final int damage;
+    public Faction faction;
+    public int damage;
 
     public State state = State.ALIVE;
 
@@ -25,26 +33,32 @@ public class Projectile {
     public float lastXpx;
     public float lastYpx;
 
+    // Render interpolation: lastXpx/lastYpx at the start of the current sim step
+    public float prevXpx;
+    public float prevYpx;
+
     public float impactFxLeft = 0f;
     public boolean impactQueued = false;
 
     // piercing
     public int piercesLeft = 0;
 
-    public Projectile(World world, Faction faction, int damage,
-                      float xPx, float yPx,
-                      float vxMps, float vyMps,
-                      float lifetimeSec) {
+    // RAYCAST mode only (meters, m/s)
+    public float xM, yM;
+    public float vxMps, vyMps;
 
-        this.id = SEQ.getAndIncrement();
-        this.faction = faction;
-        this.damage = damage;
-        this.timeLeft = lifetimeSec;
+    /** Bodiless projectile for RAYCAST mode. */
+    public Projectile() {
+        body = null;
+    }
 
+    /** Creates the parked (inactive) body; call spawn() to fire it. */
+    public Projectile(World world) {
         BodyDef bd = new BodyDef();
         bd.type = BodyDef.BodyType.DynamicBody;
         bd.bullet = true;
-        bd.position.set(PhysicsConstants.toMeters(xPx), PhysicsConstants.toMeters(yPx));
+        bd.active = false;
+        bd.gravityScale = 0f;
 
         body = world.createBody(bd);
 
@@ -63,23 +77,72 @@ public class Projectile {
         fx.setUserData(this);
 
         s.dispose();
+    }
+
+    /** Re-arms a parked projectile at (xPx, yPx). */
+    public Projectile spawn(Faction faction, int damage,
+                            float xPx, float yPx,
+                            float vxMps, float vyMps,
+                            float lifetimeSec) {
+        this.id = SEQ.getAndIncrement();
+        this.faction = faction;
+        this.damage = damage;
+        this.timeLeft = lifetimeSec;
 
-        body.setGravityScale(0f);
-        body.setLinearVelocity(vxMps, vyMps);
+        if (body != null) {
+            body.setTransform(PhysicsConstants.toMeters(xPx), PhysicsConstants.toMeters(yPx), 0f);
+            body.setLinearVelocity(vxMps, vyMps);
+            body.setActive(true);
+            body.setAwake(true);
+        } else {
+            this.xM = PhysicsConstants.toMeters(xPx);
+            this.yM = PhysicsConstants.toMeters(yPx);
+            this.vxMps = vxMps;
+            this.vyMps = vyMps;
+        }
+
+        lastXpx = prevXpx = xPx;
+        lastYpx = prevYpx = yPx;
+        return this;
+    }
+
+    /** Stops colliding right away (impact FX keeps the instance in the system for a few frames). */
+    public void deactivate() {
+        if (body != null && body.isActive()) body.setActive(false);
+    }
 
-        lastXpx = xPx;
-        lastYpx = yPx;
+    /** Pool.Poolable: park the body and clear per-shot state. */
+    @Override
+    public void reset() {
+        deactivate();
+        if (body != null) body.setLinearVelocity(0f, 0f);
+        vxMps = 0f;
+        vyMps = 0f;
+
+        faction = null;
+        damage = 0;
+        state = State.ALIVE;
+        timeLeft = 0f;
+        hitLock = 0f;
+        impactFxLeft = 0f;
+        impactQueued = false;
+        piercesLeft = 0;
     }
 
     public void tickAlive(float delta) {
         if (hitLock > 0f) hitLock = Math.max(0f, hitLock - delta);
 
-        lastXpx = PhysicsConstants.toPixels(body.getPosition().x);
-        lastYpx = PhysicsConstants.toPixels(body.getPosition().y);
+        if (body != null) {
+            lastXpx = PhysicsConstants.toPixels(body.getPosition().x);
+            lastYpx = PhysicsConstants.toPixels(body.getPosition().y);
+        }
 
         timeLeft -= delta;
     }
 
+    public float renderXpx(float alpha) { return prevXpx + (lastXpx - prevXpx) * alpha; }
+    public float renderYpx(float alpha) { return prevYpx + (lastYpx - prevYpx) * alpha; }
+
     public void beginImpactFx() {
         state = State.IMPACT;
         impactFxLeft = 0.10f;
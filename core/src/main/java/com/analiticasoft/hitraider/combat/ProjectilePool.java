@@ -0,0 +1,51 @@
+package com.analiticasoft.hitraider.combat;
+
+import com.analiticasoft.hitraider.physics.PhysicsDestroyQueue;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * ProjectilePool:
+ * - Keeps parked projectile bodies (inactive) for one World, so shots stop creating/destroying Box2D bodies
+ * - bodiless pools (RAYCAST mode) just recycle the structs
+ * - obtain()/free() only outside world.step() (setActive is illegal while the world is locked)
+ * - Above MAX_FREE, freed projectiles are discarded: their body goes to the destroy queue
+ */
+public class ProjectilePool extends Pool<Projectile> {
+
+    public static final int INITIAL = 32;
+    public static final int MAX_FREE = 256;
+
+    private final World world;
+    private final boolean bodiless;
+    private PhysicsDestroyQueue destroyQueue; // optional but recommended
+
+    private int created = 0;
+
+    public ProjectilePool(World world, boolean bodiless) {
+        super(INITIAL, MAX_FREE);
+        this.world = world;
+        this.bodiless = bodiless;
+    }
+
+    public void setDestroyQueue(PhysicsDestroyQueue q) {
+        this.destroyQueue = q;
+    }
+
+    @Override
+    protected Projectile newObject() {
+        created++;
+        return bodiless ? new Projectile() : new Projectile(world);
+    }
+
+    @Override
+    protected void discard(Projectile p) {
+        super.discard(p);
+        if (p.body == null || p.body.getWorld() != world) return;
+        if (destroyQueue != null) destroyQueue.queueBody(p.body);
+        else world.destroyBody(p.body);
+    }
+
+    /** Bodies ever created by this pool (stays flat once warmed up). */
+    public int created() { return created; }
+}
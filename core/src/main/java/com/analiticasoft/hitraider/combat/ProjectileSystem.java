@@ -1,33 +1,76 @@
 package com.analiticasoft.hitraider.combat;
 
+import com.analiticasoft.hitraider.config.CombatTuning;
+import com.analiticasoft.hitraider.physics.CollisionBits;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
 import com.analiticasoft.hitraider.physics.PhysicsDestroyQueue;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 
 /**
  * ProjectileSystem (fortified):
+ * - Projectiles come from a ProjectilePool: impact/expiry parks the body instead of destroying it
  * - Never destroys bodies directly if destroyQueue is provided
  * - flushImpacts() must be called after physics.step()
+ * - RAYCAST mode: no bodies at all; update() sweeps each shot's segment with World.rayCast
+ *   (same filters + damage rules as GameContactListener, pierces consumed in hit order)
  */
 public class ProjectileSystem {
 
+    public enum Mode { BODY, RAYCAST }
+
+    private static final Vector2 NO_KNOCKBACK = new Vector2();
+
     private final World world;
+    public final Mode mode;
     public final Array<Projectile> projectiles = new Array<>();
+    public final ProjectilePool pool;
 
     private int impactsEnemyThisFrame = 0;
     private int impactsWorldThisFrame = 0;
 
     private PhysicsDestroyQueue destroyQueue; // optional but recommended
 
+    // RAYCAST mode scratch (reused every sweep)
+    private final RayHits rayHits = new RayHits();
+    private final Vector2 rayFrom = new Vector2();
+    private final Vector2 rayTo = new Vector2();
+
     public ProjectileSystem(World world) {
+        this(world, CombatTuning.PROJECTILE_RAYCAST ? Mode.RAYCAST : Mode.BODY);
+    }
+
+    public ProjectileSystem(World world, Mode mode) {
         this.world = world;
+        this.mode = mode;
+        this.pool = new ProjectilePool(world, mode == Mode.RAYCAST);
     }
 
     public void setDestroyQueue(PhysicsDestroyQueue q) {
         this.destroyQueue = q;
+        pool.setDestroyQueue(q);
     }
 
-    public void spawn(Projectile p) { projectiles.add(p); }
+    /** Fires a pooled projectile. Call outside world.step(). */
+    public Projectile spawn(Faction faction, int damage,
+                            float xPx, float yPx,
+                            float vxMps, float vyMps,
+                            float lifetimeSec) {
+        Projectile p = pool.obtain().spawn(faction, damage, xPx, yPx, vxMps, vyMps, lifetimeSec);
+        projectiles.add(p);
+        return p;
+    }
+
+    /** Returns every projectile to the pool (room change). Call outside world.step(). */
+    public void releaseAll() {
+        pool.freeAll(projectiles);
+        projectiles.clear();
+    }
 
     public void queueImpact(Projectile p) {
         if (p == null) return;
@@ -45,39 +88,153 @@ public class ProjectileSystem {
     public void flushImpacts() {
         for (Projectile p : projectiles) {
             if (p.state == Projectile.State.ALIVE && p.impactQueued) {
-                if (p.body != null && p.body.getWorld() != null) {
-                    p.lastXpx = com.analiticasoft.hitraider.physics.PhysicsConstants.toPixels(p.body.getPosition().x);
-                    p.lastYpx = com.analiticasoft.hitraider.physics.PhysicsConstants.toPixels(p.body.getPosition().y);
+                p.lastXpx = com.analiticasoft.hitraider.physics.PhysicsConstants.toPixels(p.body.getPosition().x);
+                p.lastYpx = com.analiticasoft.hitraider.physics.PhysicsConstants.toPixels(p.body.getPosition().y);
 
-                    if (destroyQueue != null) destroyQueue.queueBody(p.body);
-                    else world.destroyBody(p.body);
-                }
+                // Parked now, back to the pool once the impact FX ends
+                p.deactivate();
                 p.beginImpactFx();
                 p.impactQueued = false;
             }
         }
     }
 
+    /** Render interpolation: call before each sim step. */
+    public void capturePrev() {
+        for (int i = 0; i < projectiles.size; i++) {
+            Projectile p = projectiles.get(i);
+            p.prevXpx = p.lastXpx;
+            p.prevYpx = p.lastYpx;
+        }
+    }
+
     public void update(float delta) {
         for (int i = projectiles.size - 1; i >= 0; i--) {
             Projectile p = projectiles.get(i);
 
             if (p.state == Projectile.State.ALIVE) {
                 p.tickAlive(delta);
+                if (p.body == null) sweep(p, delta);
 
-                if (p.timeLeft <= 0f) {
-                    if (p.body != null && p.body.getWorld() != null) {
-                        if (destroyQueue != null) destroyQueue.queueBody(p.body);
-                        else world.destroyBody(p.body);
-                    }
+                if (p.state == Projectile.State.ALIVE && p.timeLeft <= 0f) {
                     projectiles.removeIndex(i);
+                    pool.free(p);
                 }
             } else {
                 p.tickImpact(delta);
                 if (p.impactDone()) {
                     projectiles.removeIndex(i);
+                    pool.free(p);
                 }
             }
         }
     }
+
+    /** RAYCAST mode: moves p along its velocity, resolving world/target hits on the swept segment. */
+    private void sweep(Projectile p, float delta) {
+        float x1 = p.xM + p.vxMps * delta;
+        float y1 = p.yM + p.vyMps * delta;
+
+        rayHits.begin(p);
+        if (p.xM != x1 || p.yM != y1) world.rayCast(rayHits, rayFrom.set(p.xM, p.yM), rayTo.set(x1, y1));
+
+        // Targets in order along the segment, up to the first world hit (hitLock gates targets only, like contacts)
+        boolean canHit = p.hitLock <= 0f;
+        for (int i = 0; i < rayHits.targets.size && canHit; i++) {
+            if (rayHits.fractions.get(i) > rayHits.worldFraction) break;
+
+            Damageable target = rayHits.targets.get(i);
+            if (rayHits.seenBefore(i)) continue; // several fixtures of one body (player)
+
+            target.applyDamage(p.damage, NO_KNOCKBACK);
+            notifyImpactEnemy();
+
+            // piercing
+            if (p.piercesLeft > 0) {
+                p.piercesLeft--;
+                p.hitLock = 0.06f;
+                canHit = false;
+                continue;
+            }
+
+            // normal impact
+            impactAt(p, rayHits.xs.get(i), rayHits.ys.get(i));
+            return;
+        }
+
+        if (rayHits.worldFraction <= 1f) {
+            notifyImpactWorld();
+            impactAt(p, rayHits.worldX, rayHits.worldY);
+            return;
+        }
+
+        p.xM = x1;
+        p.yM = y1;
+        p.lastXpx = PhysicsConstants.toPixels(x1);
+        p.lastYpx = PhysicsConstants.toPixels(y1);
+    }
+
+    private void impactAt(Projectile p, float xM, float yM) {
+        p.xM = xM;
+        p.yM = yM;
+        p.lastXpx = PhysicsConstants.toPixels(xM);
+        p.lastYpx = PhysicsConstants.toPixels(yM);
+        p.beginImpactFx();
+    }
+
+    /** Collects one sweep: closest WORLD hit (clips the ray) + damageable targets sorted by fraction. */
+    private static final class RayHits implements RayCastCallback {
+        Projectile projectile;
+
+        final Array<Damageable> targets = new Array<>();
+        final FloatArray fractions = new FloatArray();
+        final FloatArray xs = new FloatArray();
+        final FloatArray ys = new FloatArray();
+
+        float worldFraction;
+        float worldX, worldY;
+
+        void begin(Projectile p) {
+            projectile = p;
+            targets.clear();
+            fractions.clear();
+            xs.clear();
+            ys.clear();
+            worldFraction = 2f; // > 1 => no world hit
+        }
+
+        @Override
+        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+            // Same pairs Box2D would let the projectile sensor touch
+            Filter f = fixture.getFilterData();
+            if ((f.categoryBits & CollisionBits.MASK_PROJECTILE) == 0) return -1f;
+            if ((f.maskBits & CollisionBits.PROJECTILE) == 0) return -1f;
+
+            if (f.categoryBits == CollisionBits.WORLD) {
+                if (fraction < worldFraction) {
+                    worldFraction = fraction;
+                    worldX = point.x;
+                    worldY = point.y;
+                }
+                return fraction; // nothing behind the wall matters
+            }
+
+            if (!(fixture.getUserData() instanceof Damageable target)) return -1f;
+            if (target.getFaction() == projectile.faction) return -1f;
+
+            int at = fractions.size;
+            while (at > 0 && fractions.get(at - 1) > fraction) at--;
+            targets.insert(at, target);
+            fractions.insert(at, fraction);
+            xs.insert(at, point.x);
+            ys.insert(at, point.y);
+            return 1f; // keep going: pierce can hit several
+        }
+
+        boolean seenBefore(int i) {
+            Damageable t = targets.get(i);
+            for (int j = 0; j < i; j++) if (targets.get(j) == t) return true;
+            return false;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.analiticasoft.hitraider.combat.weapons;
+
+import com.analiticasoft.hitraider.entities.Player;
+import com.analiticasoft.hitraider.input.Action;
+import com.analiticasoft.hitraider.input.InputState;
+
+/**
+ * WeaponLoadout (Phase A): current weapon + bolter ammo/reload, stepped inside the fixed sim step.
+ * - Lives in GameplayContext (was GameplayScreen state), so headless runs and replays fire exactly like desktop
+ * - Switching/reload come from InputState actions (WEAPON_1 / WEAPON_2 / RELOAD), never from raw keys
+ * - WeaponRuntime is re-bound whenever the run rebuilds its physics systems
+ */
+public final class WeaponLoadout {
+
+    public static final int MAG_SIZE = 30;
+    public static final int START_RESERVE = 120;
+    public static final float RELOAD_TIME = 1.10f;
+
+    private WeaponRuntime runtime;
+
+    private WeaponType current = WeaponType.THUNDER_HAMMER;
+    private float cooldown = 0f;
+
+    private int ammoInMag = MAG_SIZE;
+    private int ammoReserve = START_RESERVE;
+    private boolean reloading = false;
+    private float reloadTimer = 0f;
+
+    public void bind(WeaponRuntime runtime) {
+        this.runtime = runtime;
+    }
+
+    /** New run: default weapon, full ammo. */
+    public void reset() {
+        current = WeaponType.THUNDER_HAMMER;
+        cooldown = 0f;
+        ammoInMag = MAG_SIZE;
+        ammoReserve = START_RESERVE;
+        reloading = false;
+        reloadTimer = 0f;
+    }
+
+    /** Once per fixed sim step (not affected by hitstop). */
+    public void step(float dt, InputState input, Player player) {
+        // Weapon switching
+        if (input.isJustPressed(Action.WEAPON_1)) current = WeaponType.THUNDER_HAMMER;
+        if (input.isJustPressed(Action.WEAPON_2)) current = WeaponType.BOLTER;
+
+        // Reload manual
+        if (input.isJustPressed(Action.RELOAD)) startReload();
+
+        // cooldown timers
+        if (cooldown > 0f) cooldown = Math.max(0f, cooldown - dt);
+
+        // reload timer
+        if (reloading) {
+            reloadTimer = Math.max(0f, reloadTimer - dt);
+            if (reloadTimer <= 0f) finishReload();
+        }
+
+        // Weapon use (only blocks shooting during reload)
+        handleWeaponUse(input, player);
+    }
+
+    private void handleWeaponUse(InputState input, Player player) {
+        if (runtime == null || player == null || !player.isAlive()) return;
+
+        // Only bolter is executed here (ranged).
+        // Hammer is handled by Player.attack -> CombatSystem hitbox spawn in runtime (stable).
+        if (current != WeaponType.BOLTER) return;
+
+        if (reloading) return;
+
+        // Auto-reload on empty if trying to shoot
+        if (input.isJustPressed(Action.SHOOT) && ammoInMag <= 0) {
+            startReload();
+            return;
+        }
+
+        if (input.isJustPressed(Action.SHOOT) && cooldown <= 0f) {
+            if (ammoInMag <= 0) return;
+
+            ammoInMag--;
+            int aimY = player.getAimY(input);
+            runtime.usePrimary(player, current, aimY);
+            cooldown = runtime.cooldownFor(current);
+        }
+    }
+
+    private void startReload() {
+        if (current != WeaponType.BOLTER) return;
+        if (reloading) return;
+        if (ammoInMag >= MAG_SIZE) return;
+        if (ammoReserve <= 0) return;
+
+        reloading = true;
+        reloadTimer = RELOAD_TIME;
+    }
+
+    private void finishReload() {
+        reloading = false;
+
+        int need = MAG_SIZE - ammoInMag;
+        if (need <= 0) return;
+
+        int taken = Math.min(need, ammoReserve);
+        ammoInMag += taken;
+        ammoReserve -= taken;
+    }
+
+    // -------------------------
+    // HUD
+    // -------------------------
+
+    public WeaponType current() { return current; }
+    public float cooldown() { return cooldown; }
+    public int ammoInMag() { return ammoInMag; }
+    public int ammoReserve() { return ammoReserve; }
+
+    public String ammoLabel() {
+        if (current != WeaponType.BOLTER) return "Ammo: --/--";
+        String line = "Ammo: " + ammoInMag + "/" + ammoReserve;
+        if (reloading) line += String.format("  (Reloading %.1fs)", reloadTimer);
+        return line;
+    }
+
+    public String weaponName() {
+        return switch (current) {
+            case THUNDER_HAMMER -> "Thunder Hammer";
+            case BOLTER -> "Bolter";
+        };
+    }
+}
@@ -52,8 +52,7 @@ public final class WeaponRuntime {
         float sx = player.getXpx() + player.getFacingDir() * 14f;
         float sy = player.getYpx() + 10f;
 
-        Projectile p = new Projectile(
-            world,
+        Projectile p = projectiles.spawn(
             Faction.PLAYER,
             dmg,
             sx, sy,
@@ -63,8 +62,6 @@ public final class WeaponRuntime {
         );
 
         p.piercesLeft = def.basePierce + relics.getPiercingShots();
-
-        projectiles.spawn(p);
     }
 
     /** Cooldown including relic modifiers (Phase A: fire rate affects ranged). */
@@ -0,0 +1,73 @@
+package com.analiticasoft.hitraider.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * BoundedMpscQueue: fixed-size lock-free ring (Vyukov style), many producers, one consumer.
+ * - offer(): CAS on the tail, never blocks; false when full (caller decides: drop/count)
+ * - poll(): consumer thread only; null when empty
+ * Each slot carries a sequence number, so producers publish with one ordered store and
+ * the consumer never sees a half-written slot.
+ */
+public final class BoundedMpscQueue<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequence;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // written by the consumer only
+
+    /** capacity is rounded up to a power of two. */
+    public BoundedMpscQueue(int capacity) {
+        int cap = 2;
+        while (cap < capacity) cap <<= 1;
+        slots = new AtomicReferenceArray<>(cap);
+        sequence = new AtomicLongArray(cap);
+        for (int i = 0; i < cap; i++) sequence.set(i, i);
+        mask = cap - 1;
+    }
+
+    public boolean offer(T value) {
+        if (value == null) throw new NullPointerException("null element");
+        while (true) {
+            long t = tail.get();
+            int i = (int) (t & mask);
+            long diff = sequence.get(i) - t;
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots.lazySet(i, value);
+                    sequence.set(i, t + 1); // publish
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false; // full
+            }
+            // diff > 0: another producer took this slot, retry with the new tail
+        }
+    }
+
+    public T poll() {
+        long h = head;
+        int i = (int) (h & mask);
+        if (sequence.get(i) != h + 1) return null; // empty (or producer still publishing)
+
+        T value = slots.get(i);
+        slots.lazySet(i, null);
+        sequence.set(i, h + mask + 1); // slot free for the next lap
+        head = h + 1;
+        return value;
+    }
+
+    /** Approximate from other threads. */
+    public int size() {
+        long s = tail.get() - head;
+        return (int) Math.max(0, Math.min(s, mask + 1));
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    public int capacity() { return mask + 1; }
+}
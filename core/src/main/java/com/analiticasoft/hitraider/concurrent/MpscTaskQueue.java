@@ -0,0 +1,90 @@
+package com.analiticasoft.hitraider.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * MpscTaskQueue: unbounded lock-free task queue (Vyukov intrusive MPSC list), any thread posts, one thread drains.
+ * - post(): one getAndSet on the tail + one link store; never blocks, never drops
+ * - drain(budget): owner thread only; runs tasks until empty or out of budget (at least one per call),
+ *   so a burst of posted work spreads over several frames
+ * - Stats: depth, tasks run / time spent last drain, worst post->run latency last drain
+ */
+public final class MpscTaskQueue {
+
+    private static final class Node {
+        Runnable task;
+        long postedNs;
+        volatile Node next;
+    }
+
+    private final AtomicReference<Node> tail;
+    private Node head; // consumer only (stub node: head.next is the first task)
+
+    private final AtomicInteger depth = new AtomicInteger();
+
+    // Consumer-side stats
+    private int lastRan = 0;
+    private long lastDrainNs = 0L;
+    private long lastMaxLatencyNs = 0L;
+    private long totalRan = 0L;
+
+    public MpscTaskQueue() {
+        Node stub = new Node();
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    /** Any thread. */
+    public void post(Runnable task) {
+        if (task == null) throw new NullPointerException("null task");
+        Node n = new Node();
+        n.task = task;
+        n.postedNs = System.nanoTime();
+        depth.incrementAndGet();
+
+        Node prev = tail.getAndSet(n);
+        prev.next = n; // publishes the node (between getAndSet and here the consumer just sees "empty")
+    }
+
+    /**
+     * Owner thread only. Runs queued tasks for up to budgetNanos (<= 0: everything queued right now).
+     * A task that throws propagates; the tasks after it stay queued.
+     */
+    public int drain(long budgetNanos) {
+        long start = System.nanoTime();
+        int ran = 0;
+        long maxLatency = 0L;
+
+        try {
+            Node next;
+            while ((next = head.next) != null) {
+                Runnable task = next.task;
+                next.task = null;
+                head = next;
+                depth.decrementAndGet();
+
+                long now = System.nanoTime();
+                maxLatency = Math.max(maxLatency, now - next.postedNs);
+                ran++;
+                task.run();
+
+                if (budgetNanos > 0 && System.nanoTime() - start >= budgetNanos) break;
+            }
+        } finally {
+            lastRan = ran;
+            totalRan += ran;
+            lastMaxLatencyNs = maxLatency;
+            lastDrainNs = System.nanoTime() - start;
+        }
+        return ran;
+    }
+
+    /** Tasks posted but not run yet (any thread). */
+    public int depth() { return depth.get(); }
+
+    public int lastRan() { return lastRan; }
+    public float lastDrainMs() { return lastDrainNs / 1_000_000f; }
+    public float lastMaxLatencyMs() { return lastMaxLatencyNs / 1_000_000f; }
+    public long totalRan() { return totalRan; }
+}
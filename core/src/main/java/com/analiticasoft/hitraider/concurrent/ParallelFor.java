@@ -0,0 +1,106 @@
+package com.analiticasoft.hitraider.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelFor: splits [0, n) into contiguous chunks and runs them on a small fork-join pool.
+ * - The calling thread runs chunk 0 itself and blocks until every chunk is done (happens-before on return)
+ * - Chunk tasks are preallocated and reused (reinitialize), so a call allocates nothing
+ * - Chunk c always covers the same range for a given n: callers index per-chunk scratch by chunk id
+ * - threads = 1 (or n too small to split) runs inline with no pool at all
+ * The body must only write state owned by its own range; results are merged by the caller afterwards.
+ */
+public final class ParallelFor {
+
+    /** Work for [from, to); chunk = 0..chunks()-1. */
+    public interface RangeTask {
+        void run(int from, int to, int chunk);
+    }
+
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        int from, to, id;
+
+        @Override
+        protected void compute() {
+            task.run(from, to, id);
+        }
+    }
+
+    private final int threads;
+    private final ForkJoinPool pool;
+    private final Chunk[] chunks;
+
+    private RangeTask task;
+    private int lastChunks = 1;
+
+    public ParallelFor(int threads, String threadName) {
+        this.threads = Math.max(1, threads);
+        this.chunks = new Chunk[this.threads];
+        for (int i = 0; i < chunks.length; i++) chunks[i] = new Chunk();
+
+        if (this.threads == 1) {
+            pool = null;
+        } else {
+            pool = new ForkJoinPool(this.threads - 1, p -> {
+                ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                t.setName(threadName + "-" + t.getPoolIndex());
+                t.setDaemon(true);
+                return t;
+            }, null, false);
+        }
+    }
+
+    public int threads() { return threads; }
+
+    /** Chunks used by the last run() (1 = ran inline). */
+    public int lastChunks() { return lastChunks; }
+
+    /** Runs body over [0, n) with at least minPerChunk items per chunk. Single caller thread at a time. */
+    public void run(int n, int minPerChunk, RangeTask body) {
+        int count = pool == null ? 1 : Math.max(1, Math.min(threads, n / Math.max(1, minPerChunk)));
+        lastChunks = count;
+
+        if (count == 1) {
+            if (n > 0) body.run(0, n, 0);
+            return;
+        }
+
+        task = body;
+        int per = n / count, extra = n % count, from = 0;
+        for (int c = 0; c < count; c++) {
+            Chunk ch = chunks[c];
+            ch.reinitialize();
+            ch.from = from;
+            ch.to = from + per + (c < extra ? 1 : 0);
+            ch.id = c;
+            from = ch.to;
+        }
+
+        for (int c = 1; c < count; c++) pool.execute(chunks[c]);
+
+        // Every chunk finishes before returning, even if one throws (they share body)
+        RuntimeException error = null;
+        try {
+            chunks[0].invoke();
+        } catch (RuntimeException e) {
+            error = e;
+        }
+        for (int c = 1; c < count; c++) {
+            try {
+                chunks[c].join();
+            } catch (RuntimeException e) {
+                if (error == null) error = e;
+            }
+        }
+        task = null;
+        if (error != null) throw error;
+    }
+
+    public void shutdown() {
+        if (pool != null) pool.shutdownNow();
+    }
+}
@@ -0,0 +1,12 @@
+package com.analiticasoft.hitraider.config;
+
+public final class AssetTuning {
+    private AssetTuning() {}
+
+    // Sprite texture-memory budget (SpriteCache). Idle sets are pinned; the rest are LRU-evicted above this.
+    public static final int SPRITE_BUDGET_MB_DESKTOP = 384;
+    public static final int SPRITE_BUDGET_MB_MOBILE = 160;
+
+    // Per-frame GL upload budget while gameplay streams lazy sets in
+    public static final int STREAM_BUDGET_MS = 4;
+}
@@ -6,4 +6,10 @@ public final class CombatTuning {
     // Hitstop seconds (small but impactful)
     public static final float HITSTOP_PROJECTILE = 0.02f;
     public static final float HITSTOP_MELEE = 0.05f;
+
+    // Projectiles: false = Box2D bullet bodies + contacts, true = bodiless structs swept with World.rayCast
+    public static final boolean PROJECTILE_RAYCAST = false;
+
+    // Melee chasers wait behind a melee ally already between them and the player (enemy grid query); off = vanilla chase
+    public static final boolean MELEE_SEPARATION = false;
 }
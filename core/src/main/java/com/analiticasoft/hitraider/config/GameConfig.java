@@ -6,4 +6,15 @@ public final class GameConfig {
     // Virtual resolution
     public static final float VIRTUAL_W = 640f;
     public static final float VIRTUAL_H = 360f;
+
+    // Main-thread task queue: CPU time per frame for posted work (the rest waits for the next frame)
+    public static final float MAIN_QUEUE_BUDGET_MS = 2f;
+
+    // Enemy AI decisions (EnemyAiPhase): threads incl. the sim thread, split only for crowded rooms
+    public static final int AI_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    public static final int AI_PARALLEL_MIN_ENEMIES = 64;
+    public static final int AI_CHUNK_MIN = 32;
+
+    // Room swap: enemies spawned per sim step after the fade-out (the fade-in covers the rest; 15 steps at 60 Hz)
+    public static final int ROOM_SPAWNS_PER_STEP = 8;
 }
@@ -5,4 +5,10 @@ public final class PhysicsTuning {
 
     // Gravity Y in Box2D world (m/s^2)
     public static final float GRAVITY_Y = -25f;
+
+    // Fixed simulation step (physics + all gameplay logic), render interpolates in between
+    public static final float SIM_DT = 1f / 60f;
+    // Clamp for long frames (breakpoints, window drag) and max steps per render frame (spiral of death)
+    public static final float MAX_FRAME_TIME = 0.25f;
+    public static final int MAX_SIM_STEPS = 8;
 }
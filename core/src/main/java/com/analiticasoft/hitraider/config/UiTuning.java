@@ -15,4 +15,9 @@ public final class UiTuning {
     // Debug/info (top-right)
     public static final float INFO_X_OFFSET = 248f;
     public static final float INFO_Y = 18f;
+
+    // Profiler overlay (left, under the souls HUD)
+    public static final float PROFILER_X = 14f;
+    public static final float PROFILER_Y_OFFSET = 110f;
+    public static final int PROFILER_ROWS = 8;
 }
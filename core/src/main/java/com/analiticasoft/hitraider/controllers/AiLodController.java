@@ -0,0 +1,125 @@
+package com.analiticasoft.hitraider.controllers;
+
+import com.analiticasoft.hitraider.combat.HealthComponent;
+import com.analiticasoft.hitraider.config.GameConfig;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+import java.util.Arrays;
+
+/**
+ * AI level-of-detail: enemies nobody can see or reach don't need a full update every step.
+ * - Dormant = IDLE, unhurt, beyond aggro range (+margin) and outside the view around the player
+ * - Dormant bodies are put to Box2D sleep once at rest (the solver skips them) and their AI runs every
+ *   BUCKETS steps in round-robin buckets (by grid handle), with the skipped time accumulated
+ * - Anything else is active: wakes on the very step it gets hit (stun/flash) or the player comes close
+ * - Asleep dormant bodies don't move: callers skip their position sync (isAsleep), and the body is only
+ *   re-checked on its bucket step (a contact may have woken it), so a dormant enemy costs no JNI calls
+ * The view is taken around the player, not the render camera, so the sim stays deterministic for replays/headless.
+ */
+public class AiLodController {
+
+    public static final int BUCKETS = 8;
+
+    // View half size around the player (camera follows it) + slack for the camera lag / enemy width
+    private static final float VIEW_HALF_W_PX = GameConfig.VIRTUAL_W * 0.5f + 96f;
+    private static final float VIEW_HALF_H_PX = GameConfig.VIRTUAL_H * 0.5f + 96f;
+    private static final float AGGRO_MARGIN_PX = 64f;
+    private static final float REST_SPEED = 0.01f; // m/s: only sleep bodies that are already resting
+
+    public boolean enabled = true;
+
+    // Per enemy, indexed by RunController.enemyGrid handle (dense, reused)
+    private boolean[] dormant = new boolean[64];
+    private boolean[] asleep = new boolean[64];
+    private float[] pendingDt = new float[64];
+
+    private int tick = 0;
+
+    // Stats (last step)
+    public int active, throttled, skipped, sleeping;
+
+    /** Call once per sim step before the enemy loop. */
+    public void beginStep() {
+        tick++;
+        active = throttled = skipped = sleeping = 0;
+    }
+
+    /** New room / run: handles get reused from 0, bucket phase restarts (a replay starts from a fresh controller). */
+    public void reset() {
+        tick = 0;
+        Arrays.fill(dormant, false);
+        Arrays.fill(asleep, false);
+        Arrays.fill(pendingDt, 0f);
+    }
+
+    /**
+     * Seconds to update this enemy with this step, or -1 = skip it (dormant, not its bucket).
+     * idle = AI state is IDLE; (x, y) = enemy position as synced this step; (playerX, playerY) = view center.
+     */
+    public float schedule(int id, Body body, boolean idle, HealthComponent health,
+                          float xPx, float yPx, float aggroPx,
+                          float playerXpx, float playerYpx, float dt) {
+        ensure(id);
+
+        boolean far = enabled
+            && idle
+            && health.isAlive() && !health.isStunned() && !health.isFlashing()
+            && isFar(xPx, yPx, aggroPx, playerXpx, playerYpx);
+
+        if (!far) {
+            if (dormant[id]) {
+                dormant[id] = false;
+                pendingDt[id] = 0f; // idle time only; timers set by the hit that woke it must run from now
+                if (asleep[id]) body.setAwake(true);
+                asleep[id] = false;
+            }
+            active++;
+            return dt;
+        }
+
+        dormant[id] = true;
+        pendingDt[id] += dt;
+        boolean due = (tick + id) % BUCKETS == 0;
+
+        if (!asleep[id] || due) {
+            if (body.isAwake()) {
+                Vector2 v = body.getLinearVelocity();
+                if (Math.abs(v.x) < REST_SPEED && Math.abs(v.y) < REST_SPEED) body.setAwake(false);
+            }
+            asleep[id] = !body.isAwake();
+        }
+        if (asleep[id]) sleeping++;
+
+        if (!due) {
+            skipped++;
+            return -1f;
+        }
+
+        float out = pendingDt[id];
+        pendingDt[id] = 0f;
+        throttled++;
+        return out;
+    }
+
+    /** Dormant and asleep as of the last step: its body hasn't moved, no need to read it back. */
+    public boolean isAsleep(int id) {
+        return id >= 0 && id < asleep.length && asleep[id];
+    }
+
+    private static boolean isFar(float xPx, float yPx, float aggroPx, float playerXpx, float playerYpx) {
+        float dx = Math.abs(xPx - playerXpx);
+        float dy = Math.abs(yPx - playerYpx);
+        if (dx <= aggroPx + AGGRO_MARGIN_PX) return false;
+        return dx > VIEW_HALF_W_PX || dy > VIEW_HALF_H_PX;
+    }
+
+    private void ensure(int id) {
+        if (id < dormant.length) return;
+        int cap = dormant.length;
+        while (cap <= id) cap <<= 1;
+        dormant = Arrays.copyOf(dormant, cap);
+        asleep = Arrays.copyOf(asleep, cap);
+        pendingDt = Arrays.copyOf(pendingDt, cap);
+    }
+}
@@ -6,11 +6,19 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 
 public class CameraController {
 
-    public void follow(OrthographicCamera cam, Player player) {
-        float targetX = player.getXpx();
-        float targetY = player.getYpx() + CameraTuning.FOLLOW_OFFSET_Y;
+    /**
+     * Per render frame: follows the interpolated player position.
+     * FOLLOW_LERP_* are per 60 Hz frame; rescaled by delta so the feel doesn't change with refresh rate.
+     */
+    public void follow(OrthographicCamera cam, Player player, float alpha, float delta) {
+        float targetX = player.getRenderXpx(alpha);
+        float targetY = player.getRenderYpx(alpha) + CameraTuning.FOLLOW_OFFSET_Y;
 
-        cam.position.x += (targetX - cam.position.x) * CameraTuning.FOLLOW_LERP_X;
-        cam.position.y += (targetY - cam.position.y) * CameraTuning.FOLLOW_LERP_Y;
+        float frames = delta * 60f;
+        float kx = 1f - (float) Math.pow(1f - CameraTuning.FOLLOW_LERP_X, frames);
+        float ky = 1f - (float) Math.pow(1f - CameraTuning.FOLLOW_LERP_Y, frames);
+
+        cam.position.x += (targetX - cam.position.x) * kx;
+        cam.position.y += (targetY - cam.position.y) * ky;
     }
 }
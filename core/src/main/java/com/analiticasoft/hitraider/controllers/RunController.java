@@ -1,9 +1,10 @@
 package com.analiticasoft.hitraider.controllers;
 
 import com.analiticasoft.hitraider.combat.CombatSystem;
-import com.analiticasoft.hitraider.combat.Projectile;
+import com.analiticasoft.hitraider.combat.Damageable;
 import com.analiticasoft.hitraider.combat.ProjectileSystem;
 import com.analiticasoft.hitraider.config.PhysicsTuning;
+import com.analiticasoft.hitraider.entities.EnemyStore;
 import com.analiticasoft.hitraider.entities.MeleeEnemy;
 import com.analiticasoft.hitraider.entities.Player;
 import com.analiticasoft.hitraider.entities.RangedEnemy;
@@ -11,12 +12,11 @@ import com.analiticasoft.hitraider.physics.GameContactListener;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
 import com.analiticasoft.hitraider.physics.PhysicsDestroyQueue;
 import com.analiticasoft.hitraider.physics.PhysicsWorld;
-import com.analiticasoft.hitraider.render.CharacterAnimator;
-import com.analiticasoft.hitraider.render.DebugAnimLibrary;
 import com.analiticasoft.hitraider.relics.RelicManager;
 import com.analiticasoft.hitraider.relics.RelicPickup;
 import com.analiticasoft.hitraider.relics.RelicType;
 import com.analiticasoft.hitraider.world.*;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.utils.Array;
@@ -30,14 +30,15 @@ public class RunController {
     public ProjectileSystem projectiles;
     public GameContactListener contactListener;
 
-    public Array<LevelFactory.PlatformRect> platformRects;
+    public LevelChunks level; // current room template's geometry, streamed by chunk (GameplayRuntime)
 
     public Player player;
 
-    public final Array<MeleeEnemy> meleeEnemies = new Array<>();
-    public final Array<RangedEnemy> rangedEnemies = new Array<>();
-    public final Array<CharacterAnimator> meleeAnims = new Array<>();
-    public final Array<CharacterAnimator> rangedAnims = new Array<>();
+    // Live enemies of the room (melee + ranged, SoA columns incl. animation clocks)
+    public final EnemyStore enemies = new EnemyStore();
+
+    // Enemy positions (melee + ranged), synced once per sim step; AI neighbour queries / area effects
+    public final SpatialHash<Damageable> enemyGrid = new SpatialHash<>();
 
     public final EncounterManager encounter = new EncounterManager();
 
@@ -50,6 +51,10 @@ public class RunController {
     public final DropRules dropRules = new DropRules();
     public Array<RoomInstance> runRooms;
 
+    // Staged room swap: enemies of the current room not spawned yet (spawnPending)
+    private RoomInstance spawningRoom;
+    private int spawnCursor;
+
     public boolean relicDroppedThisRoom = false;
     public boolean inChoiceRoom = false;
 
@@ -65,26 +70,18 @@ public class RunController {
         if (projectiles != null) projectiles.setDestroyQueue(q);
     }
 
+    /** Room templates from assets/rooms (compiled rooms.bin, JSON fallback). */
     public void buildTemplates() {
-        templates.clear();
-
-        // New long rooms (2000px)
-        RoomTemplate longArena = new RoomTemplate("arena_long", 120f, 140f, 1950f)
-            .addSpawn(400f, 100f).addSpawn(600f, 100f).addSpawn(800f, 100f)
-            .addSpawn(1100f, 220f).addSpawn(1300f, 100f).addSpawn(1500f, 100f)
-            .addSpawn(1700f, 230f).addSpawn(1850f, 100f);
-
-        RoomTemplate platformClimb = new RoomTemplate("platform_climb", 120f, 140f, 1950f)
-            .addSpawn(300f, 160f).addSpawn(520f, 220f).addSpawn(820f, 180f)
-            .addSpawn(1100f, 220f).addSpawn(1400f, 170f).addSpawn(1700f, 230f)
-            .addSpawn(1900f, 100f);
-
-        templates.add(longArena);
-        templates.add(platformClimb);
+        templates.loadFrom(Gdx.files.internal(RoomTemplateRegistry.ROOMS_DIR));
     }
 
     public void startNewRun(boolean rebuildPhysics) {
-        long seed = System.currentTimeMillis();
+        startNewRun(rebuildPhysics, System.currentTimeMillis());
+    }
+
+    /** Same run for the same seed (fixed-step sim is deterministic given seed + input). */
+    public void startNewRun(boolean rebuildPhysics, long seed) {
+        rng.setSeed(seed); // drop rolls follow the run seed too
         int totalRooms = 2;
 
         runRooms = generator.generate(seed, totalRooms, templates);
@@ -115,14 +112,13 @@ public class RunController {
             }
         }
 
+        if (combat != null) combat.dispose();
         combat = null;
         projectiles = null;
         contactListener = null;
 
-        meleeEnemies.clear();
-        rangedEnemies.clear();
-        meleeAnims.clear();
-        rangedAnims.clear();
+        enemies.clear();
+        enemyGrid.clear();
         pickups.clear();
 
         physics = new PhysicsWorld(new Vector2(0f, PhysicsTuning.GRAVITY_Y));
@@ -134,42 +130,42 @@ public class RunController {
         contactListener = new GameContactListener(combat, projectiles);
         physics.world.setContactListener(contactListener);
 
-        platformRects = LevelFactory.createTestLevel(physics.world);
+        level = null; // per room template (loadCurrentRoom)
         player = new Player(physics.world, 120f, 140f);
     }
 
     /**
-     * Queue-destroy transient bodies from previous room (enemies, pickups, alive projectiles).
+     * Queue-destroy transient bodies from previous room (enemies, pickups); projectiles go back to their pool.
      * Never calls destroyBody directly here.
      */
     private void queueDestroyTransients() {
         if (destroyQueue == null || physics == null) return;
 
-        for (int i = meleeEnemies.size - 1; i >= 0; i--) {
-            MeleeEnemy e = meleeEnemies.get(i);
-            if (e != null && e.body != null && e.body.getWorld() == physics.world) destroyQueue.queueBody(e.body);
-        }
-        for (int i = rangedEnemies.size - 1; i >= 0; i--) {
-            RangedEnemy e = rangedEnemies.get(i);
-            if (e != null && e.body != null && e.body.getWorld() == physics.world) destroyQueue.queueBody(e.body);
+        for (int i = enemies.size - 1; i >= 0; i--) {
+            Body b = enemies.body[i];
+            if (b != null && b.getWorld() == physics.world) destroyQueue.queueBody(b);
         }
         for (int i = pickups.size - 1; i >= 0; i--) {
             RelicPickup p = pickups.get(i);
             if (p != null && p.body != null && p.body.getWorld() == physics.world) destroyQueue.queueBody(p.body);
         }
 
-        if (projectiles != null) {
-            for (int i = projectiles.projectiles.size - 1; i >= 0; i--) {
-                Projectile pr = projectiles.projectiles.get(i);
-                if (pr != null && pr.state == Projectile.State.ALIVE && pr.body != null && pr.body.getWorld() == physics.world) {
-                    destroyQueue.queueBody(pr.body);
-                }
-            }
-            projectiles.projectiles.clear();
-        }
+        // Projectiles are pooled: park them instead of destroying their bodies
+        if (projectiles != null) projectiles.releaseAll();
     }
 
+    /** Whole room in one go (run start / restart, behind the fade-in). */
     public void loadCurrentRoom(boolean rebuildPhysics) {
+        beginRoom(rebuildPhysics);
+        spawnPending(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Swaps to the current room without its enemies: tear down, geometry, player, choice relics.
+     * The enemies follow through spawnPending(), a bounded batch per sim step, so no single frame pays for the whole room.
+     * Until they are all in, the encounter can't clear (pendingSpawns()).
+     */
+    public void beginRoom(boolean rebuildPhysics) {
         buildPhysicsIfNeeded(rebuildPhysics);
 
         // Clean previous transients safely
@@ -178,10 +174,8 @@ public class RunController {
             destroyQueue.flush(physics.world, combat);
         }
 
-        meleeEnemies.clear();
-        rangedEnemies.clear();
-        meleeAnims.clear();
-        rangedAnims.clear();
+        enemies.clear();
+        enemyGrid.clear();
         pickups.clear();
 
         relicDroppedThisRoom = false;
@@ -190,6 +184,12 @@ public class RunController {
 
         RoomInstance room = run.current();
 
+        // Room geometry: rebuilt when the template changes (world unlocked here, transients flushed above)
+        if (level == null || level.rects != room.template.platforms) {
+            if (level != null) level.dispose();
+            level = new LevelChunks(physics.world, room.template.platforms);
+        }
+
         player.body.setTransform(
             PhysicsConstants.toMeters(room.template.entryXpx),
             PhysicsConstants.toMeters(room.template.entryYpx),
@@ -197,36 +197,48 @@ public class RunController {
         );
         player.body.setLinearVelocity(0f, 0f);
 
+        spawningRoom = null;
+        spawnCursor = 0;
         if (room.type == RoomType.CHOICE) {
             inChoiceRoom = true;
             spawnChoiceRelics(room);
         } else {
-            spawnEnemies(room);
+            spawningRoom = room;
         }
 
         encounter.reset();
     }
 
-    private void spawnEnemies(RoomInstance room) {
-        int si = 0;
-
-        for (int i = 0; i < room.meleeCount; i++) {
-            Vector2 sp = room.spawnOrder.get(si++ % room.spawnOrder.size);
-            meleeEnemies.add(new MeleeEnemy(physics.world, sp.x, sp.y));
-
-            CharacterAnimator a = new CharacterAnimator();
-            DebugAnimLibrary.defineMeleeEnemy(a);
-            meleeAnims.add(a);
-        }
-
-        for (int i = 0; i < room.rangedCount; i++) {
-            Vector2 sp = room.spawnOrder.get(si++ % room.spawnOrder.size);
-            rangedEnemies.add(new RangedEnemy(physics.world, sp.x, sp.y));
+    /** Enemies of the current room still to spawn (0 = room complete). */
+    public int pendingSpawns() {
+        if (spawningRoom == null) return 0;
+        return spawningRoom.meleeCount + spawningRoom.rangedCount - spawnCursor;
+    }
 
-            CharacterAnimator a = new CharacterAnimator();
-            DebugAnimLibrary.defineMeleeEnemy(a);
-            rangedAnims.add(a);
+    /**
+     * Spawns up to max pending enemies (melee first, then ranged: same order and spawn points as an all-at-once load).
+     * Counted in enemies, not milliseconds: the split must be the same on every machine for replays to hold.
+     */
+    public void spawnPending(int max) {
+        RoomInstance room = spawningRoom;
+        if (room == null) return;
+
+        int total = room.meleeCount + room.rangedCount;
+        int end = (int) Math.min(total, (long) spawnCursor + max);
+        for (; spawnCursor < end; spawnCursor++) {
+            Vector2 sp = room.spawnOrder.get(spawnCursor % room.spawnOrder.size);
+            if (spawnCursor < room.meleeCount) {
+                MeleeEnemy e = new MeleeEnemy(physics.world, sp.x, sp.y);
+                e.spawnIndex = spawnCursor;
+                e.gridId = enemyGrid.insert(e, e.getXpx(), e.getYpx());
+                enemies.add(e, e.gridId);
+            } else {
+                RangedEnemy e = new RangedEnemy(physics.world, sp.x, sp.y);
+                e.gridId = enemyGrid.insert(e, e.getXpx(), e.getYpx());
+                enemies.add(e, e.gridId);
+            }
         }
+        if (spawnCursor >= total) spawningRoom = null;
     }
 
     private void spawnChoiceRelics(RoomInstance room) {
@@ -239,13 +251,13 @@ public class RunController {
         pickups.add(new RelicPickup(physics.world, b, 820f, 220f));
     }
 
-    public void onEnemyKilledDrop(MeleeEnemy e, int idx) {
+    public void onEnemyKilledDrop(MeleeEnemy e) {
         RoomInstance room = run.current();
         if (inChoiceRoom) return;
         if (relicDroppedThisRoom) return;
         if (rng.nextFloat() >= room.relicDropChance) return;
 
-        RelicType t = dropRules.rollRelic(new Random(room.seed ^ (long) idx * 1315423911L));
+        RelicType t = dropRules.rollRelic(new Random(room.seed ^ (long) e.spawnIndex * 1315423911L));
         pickups.add(new RelicPickup(physics.world, t, e.getXpx(), e.getYpx()));
         relicDroppedThisRoom = true;
     }
@@ -276,6 +288,7 @@ public class RunController {
     }
 
     public boolean canExit() {
+        if (pendingSpawns() > 0) return false;
         if (run.current().type == RoomType.CHOICE) return !inChoiceRoom;
         return encounter.getState() == EncounterManager.State.CLEAR;
     }
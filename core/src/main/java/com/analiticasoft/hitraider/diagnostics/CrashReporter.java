@@ -1,5 +1,7 @@
 package com.analiticasoft.hitraider.diagnostics;
 
+import com.analiticasoft.hitraider.diagnostics.snapshot.FlightRecorder;
+
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
@@ -16,8 +18,25 @@ public class CrashReporter {
     }
 
     public File writeReport(Throwable t, CrashContext ctx) {
-        String ts = fmt.format(new Date());
-        File f = new File(outDir, "crash_report_" + ts + ".txt");
+        return writeReport(t, ctx, null);
+    }
+
+    public File writeReport(Throwable t, CrashContext ctx, FlightRecorder flight) {
+        return writeReport(t, ctx, flight, newReportFile());
+    }
+
+    /** Timestamped report path (cheap: no I/O), so the file can be written later on another thread. */
+    public File newReportFile() {
+        return new File(outDir, "crash_report_" + timestamp() + ".txt");
+    }
+
+    private synchronized String timestamp() {
+        return fmt.format(new Date()); // SimpleDateFormat is not thread-safe
+    }
+
+    /** Synchronous (scans for hs_err logs too): call from the diagnostics writer thread, not a frame. */
+    public File writeReport(Throwable t, CrashContext ctx, FlightRecorder flight, File f) {
+        String ts = timestamp();
 
         try (Writer w = new OutputStreamWriter(new FileOutputStream(f), StandardCharsets.UTF_8)) {
             w.write("=== HIT-RAIDER CRASH REPORT ===\n");
@@ -43,6 +62,16 @@ public class CrashReporter {
             w.write(stackTraceToString(t));
             w.write("\n");
 
+            if (flight != null && flight.size() > 0) {
+                w.write("--- Flight recorder (last " + flight.size() + " ticks, oldest first) ---\n");
+                try {
+                    flight.writeTimeline(w);
+                } catch (Throwable ft) {
+                    w.write("(timeline failed: " + ft + ")\n");
+                }
+                w.write("\n");
+            }
+
             File hs = tryFindLatestHsErr();
             if (hs != null) {
                 w.write("\n--- Native hs_err excerpt (" + hs.getName() + ") ---\n");
@@ -0,0 +1,267 @@
+package com.analiticasoft.hitraider.diagnostics;
+
+import com.analiticasoft.hitraider.concurrent.BoundedMpscQueue;
+import com.analiticasoft.hitraider.diagnostics.snapshot.FlightRecorder;
+import com.badlogic.gdx.Gdx;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * DiagnosticsWriter: background thread for all diagnostics I/O (never on the render thread).
+ * - log()/submitCrash()/submitText(): enqueue on a bounded lock-free queue and return (full -> counted as dropped,
+ *   except crash reports: those are written synchronously instead)
+ * - Writer thread drains in batches into crash-reports/diagnostics.log, rotated at MAX_FILE_BYTES (MAX_FILES kept)
+ * - Crash reports (incl. the hs_err scan) are written by the writer thread; flush() on fatal errors, shutdown() on exit
+ */
+public final class DiagnosticsWriter {
+
+    private static final String TAG = "DIAG";
+
+    public static final int QUEUE_CAPACITY = 1024;
+    public static final long MAX_FILE_BYTES = 1L << 20;
+    public static final int MAX_FILES = 5;
+
+    private static final int BATCH = 256;
+    private static final long IDLE_PARK_NS = 50_000_000L;
+    private static final String LOG_NAME = "diagnostics";
+
+    private static final int KIND_LOG = 0;
+    private static final int KIND_CRASH = 1;
+    private static final int KIND_TEXT = 2;
+
+    private static final class Record {
+        int kind;
+        long timeMs;
+        String tag;
+        String text;
+        Throwable error;
+        CrashContext context;
+        FlightRecorder flight;
+        File file;
+    }
+
+    private final File dir;
+    private final CrashReporter reporter;
+    private final BoundedMpscQueue<Record> queue = new BoundedMpscQueue<>(QUEUE_CAPACITY);
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long processed = 0L;
+
+    private volatile boolean running = false;
+    private Thread thread;
+
+    // Writer thread only
+    private final SimpleDateFormat lineFmt = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+    private Writer out;
+    private long outBytes;
+
+    public DiagnosticsWriter(File dir, CrashReporter reporter) {
+        this.dir = dir;
+        this.reporter = reporter;
+    }
+
+    public synchronized void start() {
+        if (thread != null) return;
+        running = true;
+        thread = new Thread(this::loop, "hr-diagnostics");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(1000L), "hr-diagnostics-shutdown"));
+    }
+
+    // -------------------------
+    // Producers (any thread)
+    // -------------------------
+
+    /** Timestamped line in the rotating log (also echoed to the app logger by the writer thread). */
+    public void log(String tag, String message) {
+        Record r = new Record();
+        r.kind = KIND_LOG;
+        r.timeMs = System.currentTimeMillis();
+        r.tag = tag;
+        r.text = message;
+        enqueue(r);
+    }
+
+    /**
+     * Crash report written on the writer thread. The file name is decided now (CrashScreen shows it right away);
+     * the flight recorder is copied so the game can keep running meanwhile.
+     */
+    public File submitCrash(Throwable t, CrashContext ctx, FlightRecorder flight) {
+        File target = reporter.newReportFile();
+
+        Record r = new Record();
+        r.kind = KIND_CRASH;
+        r.timeMs = System.currentTimeMillis();
+        r.error = t;
+        r.context = ctx;
+        r.flight = flight != null ? flight.copy() : null;
+        r.file = target;
+
+        if (!running || !offer(r)) {
+            // Writer gone or saturated: a crash report is worth a stall (written, so not counted as dropped)
+            reporter.writeReport(t, ctx, r.flight, target);
+        }
+        wakeUp();
+        return target;
+    }
+
+    /** Whole-file write (profiler CSVs etc.), replaced if it exists. */
+    public void submitText(File file, String content) {
+        Record r = new Record();
+        r.kind = KIND_TEXT;
+        r.timeMs = System.currentTimeMillis();
+        r.file = file;
+        r.text = content;
+        enqueue(r);
+    }
+
+    private boolean enqueue(Record r) {
+        if (offer(r)) return true;
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    private boolean offer(Record r) {
+        if (!queue.offer(r)) return false;
+        submitted.incrementAndGet();
+        return true;
+    }
+
+    private void wakeUp() {
+        Thread t = thread;
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    /** Blocks until everything submitted so far is on disk (or timeout). Fatal-error / shutdown paths only. */
+    public boolean flush(long timeoutMs) {
+        long target = submitted.get();
+        long deadline = System.nanoTime() + timeoutMs * 1_000_000L;
+        while (processed < target && running) {
+            if (System.nanoTime() > deadline) return false;
+            wakeUp();
+            LockSupport.parkNanos(1_000_000L);
+        }
+        return processed >= target;
+    }
+
+    public void shutdown(long timeoutMs) {
+        Thread t;
+        synchronized (this) {
+            t = thread;
+            if (t == null || !running) return;
+        }
+        flush(timeoutMs);
+        running = false;
+        wakeUp();
+        try {
+            t.join(timeoutMs);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -------------------------
+    // Stats (HUD)
+    // -------------------------
+
+    public int pending() { return queue.size(); }
+    public long written() { return processed; }
+    public long dropped() { return dropped.get(); }
+
+    // -------------------------
+    // Writer thread
+    // -------------------------
+
+    private void loop() {
+        while (running || !queue.isEmpty()) {
+            int n = 0;
+            Record r;
+            while (n < BATCH && (r = queue.poll()) != null) {
+                try {
+                    write(r);
+                } catch (Throwable ignored) {
+                    // diagnostics never take the game down
+                }
+                n++;
+                processed++;
+            }
+
+            if (n > 0) flushLog();
+            else LockSupport.parkNanos(IDLE_PARK_NS);
+        }
+        closeLog();
+    }
+
+    private void write(Record r) throws IOException {
+        switch (r.kind) {
+            case KIND_LOG:
+                appendLine(r.timeMs, r.tag, r.text);
+                if (Gdx.app != null) Gdx.app.log(r.tag, r.text);
+                break;
+
+            case KIND_CRASH:
+                File f = reporter.writeReport(r.error, r.context, r.flight, r.file);
+                appendLine(r.timeMs, "CRASH", r.error + " -> " + f.getPath());
+                break;
+
+            case KIND_TEXT:
+                File parent = r.file.getParentFile();
+                if (parent != null && !parent.exists()) parent.mkdirs();
+                try (Writer w = new OutputStreamWriter(new FileOutputStream(r.file, false), StandardCharsets.UTF_8)) {
+                    w.write(r.text);
+                }
+                appendLine(r.timeMs, TAG, "wrote " + r.file.getPath());
+                break;
+        }
+    }
+
+    private void appendLine(long timeMs, String tag, String text) throws IOException {
+        String line = lineFmt.format(new Date(timeMs)) + " [" + tag + "] " + text + "\n";
+        if (out == null || outBytes + line.length() > MAX_FILE_BYTES) rotate();
+        out.write(line);
+        outBytes += line.length();
+    }
+
+    /** diagnostics.log -> .1.log -> ... -> .(MAX_FILES-1).log (oldest deleted). */
+    private void rotate() throws IOException {
+        if (!dir.exists()) dir.mkdirs();
+        File current = new File(dir, LOG_NAME + ".log");
+
+        if (out != null) {
+            closeLog();
+            new File(dir, LOG_NAME + "." + (MAX_FILES - 1) + ".log").delete();
+            for (int i = MAX_FILES - 2; i >= 1; i--) {
+                File from = new File(dir, LOG_NAME + "." + i + ".log");
+                if (from.exists()) from.renameTo(new File(dir, LOG_NAME + "." + (i + 1) + ".log"));
+            }
+            current.renameTo(new File(dir, LOG_NAME + ".1.log"));
+        }
+
+        out = new OutputStreamWriter(new FileOutputStream(current, true), StandardCharsets.UTF_8);
+        outBytes = current.length();
+        if (outBytes >= MAX_FILE_BYTES) rotate(); // leftover full file from a previous session
+    }
+
+    private void flushLog() {
+        if (out == null) return;
+        try { out.flush(); } catch (IOException ignored) {}
+    }
+
+    private void closeLog() {
+        if (out == null) return;
+        try { out.close(); } catch (IOException ignored) {}
+        out = null;
+        outBytes = 0L;
+    }
+}
@@ -1,5 +1,6 @@
 package com.analiticasoft.hitraider.diagnostics;
 
+import com.analiticasoft.hitraider.diagnostics.snapshot.FlightRecorder;
 import com.analiticasoft.hitraider.game.HitRaiderGame;
 import com.analiticasoft.hitraider.screens.CrashScreen;
 
@@ -9,20 +10,37 @@ public class ErrorGuard {
 
     private final HitRaiderGame game;
     private final CrashReporter reporter;
+    private final DiagnosticsWriter writer; // null -> reports written synchronously
     private CrashContextProvider contextProvider;
+    private volatile FlightRecorder flightRecorder; // set by GameplayScreen while a run is live
 
     public ErrorGuard(HitRaiderGame game, CrashReporter reporter) {
+        this(game, reporter, null);
+    }
+
+    public ErrorGuard(HitRaiderGame game, CrashReporter reporter, DiagnosticsWriter writer) {
         this.game = game;
         this.reporter = reporter;
+        this.writer = writer;
     }
 
     public void setContextProvider(CrashContextProvider provider) {
         this.contextProvider = provider;
     }
 
+    /** Timeline of the last ticks, appended to crash reports (null = none). */
+    public void setFlightRecorder(FlightRecorder recorder) {
+        this.flightRecorder = recorder;
+    }
+
+    public FlightRecorder getFlightRecorder() {
+        return flightRecorder;
+    }
+
     public void installGlobal() {
         Thread.setDefaultUncaughtExceptionHandler((thread, throwable) -> {
             handle("UncaughtException in thread " + thread.getName(), throwable);
+            if (writer != null) writer.flush(2000L); // the thread (or JVM) may be going down: get the report out
         });
     }
 
@@ -36,7 +54,9 @@ public class ErrorGuard {
 
     private void handle(String title, Throwable t) {
         CrashContext ctx = (contextProvider != null) ? contextProvider.get() : new CrashContext().put("phase", title);
-        File out = reporter.writeReport(t, ctx);
+        File out = (writer != null)
+            ? writer.submitCrash(t, ctx, flightRecorder)   // I/O + hs_err scan on the writer thread
+            : reporter.writeReport(t, ctx, flightRecorder);
 
         String msg = (t.getMessage() == null) ? "(no message)" : t.getMessage();
 
@@ -5,6 +5,7 @@ package com.analiticasoft.hitraider.diagnostics;
  * - avgDelta: EMA (exponential moving average)
  * - maxDelta: máximo reciente (ventana)
  * - spikeCount: cuantos frames superan un umbral en una ventana
+ * - drawCalls/textureBindings: último frame, solo si el GLProfiler está activo
  */
 public class FrameStats {
 
@@ -17,6 +18,9 @@ public class FrameStats {
     private float windowTimer = 0f;
     private float windowSeconds = 5f;
 
+    private int drawCalls = 0;
+    private int textureBindings = 0;
+
     public void update(float delta) {
         if (avgDelta <= 0f) avgDelta = delta;
         else avgDelta = avgDelta * 0.95f + delta * 0.05f;
@@ -36,6 +40,14 @@ public class FrameStats {
     public float maxMs() { return maxDelta * 1000f; }
     public int spikeCount() { return spikeCount; }
 
+    public void recordGpu(int drawCalls, int textureBindings) {
+        this.drawCalls = drawCalls;
+        this.textureBindings = textureBindings;
+    }
+
+    public int drawCalls() { return drawCalls; }
+    public int textureBindings() { return textureBindings; }
+
     public void setSpikeThresholdMs(float ms) {
         spikeThreshold = ms / 1000f;
     }
@@ -0,0 +1,135 @@
+package com.analiticasoft.hitraider.diagnostics.profiler;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * FrameProfiler: begin/end timers per ProfileScope into LatencyHistograms (no allocation while recording).
+ * - window: percentiles published every windowSeconds (overlay reads the last published window, stable to read)
+ * - session: everything since the last reset (CSV dump)
+ * - enabled=false: begin/end are a single branch
+ */
+public final class FrameProfiler {
+
+    private static final ProfileScope[] SCOPES = ProfileScope.values();
+    private static final int N = SCOPES.length;
+
+    public boolean enabled = true;
+
+    private final long[] startNs = new long[N];
+    private final long[] lastNs = new long[N];
+    private final LatencyHistogram[] window = new LatencyHistogram[N];
+    private final LatencyHistogram[] session = new LatencyHistogram[N];
+
+    // Last published window (nanos)
+    private final long[] calls = new long[N];
+    private final long[] p50 = new long[N];
+    private final long[] p95 = new long[N];
+    private final long[] p99 = new long[N];
+    private final long[] max = new long[N];
+
+    private float windowTimer = 0f;
+    private float windowSeconds = 2f;
+
+    public FrameProfiler() {
+        for (int i = 0; i < N; i++) {
+            window[i] = new LatencyHistogram();
+            session[i] = new LatencyHistogram();
+        }
+    }
+
+    public void begin(ProfileScope scope) {
+        if (!enabled) return;
+        startNs[scope.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    public void end(ProfileScope scope) {
+        if (!enabled) return;
+        int i = scope.ordinal();
+        long dt = TimeUtils.nanoTime() - startNs[i];
+        lastNs[i] = dt;
+        window[i].record(dt);
+        session[i].record(dt);
+    }
+
+    /** Once per rendered frame: rolls the window. */
+    public void frame(float delta) {
+        windowTimer += delta;
+        if (windowTimer < windowSeconds) return;
+        windowTimer = 0f;
+
+        for (int i = 0; i < N; i++) {
+            LatencyHistogram h = window[i];
+            calls[i] = h.count();
+            p50[i] = h.percentileNanos(50);
+            p95[i] = h.percentileNanos(95);
+            p99[i] = h.percentileNanos(99);
+            max[i] = h.maxNanos();
+            h.reset();
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < N; i++) {
+            window[i].reset();
+            session[i].reset();
+            calls[i] = p50[i] = p95[i] = p99[i] = max[i] = 0L;
+        }
+        windowTimer = 0f;
+    }
+
+    public void setWindowSeconds(float seconds) {
+        if (seconds > 0.25f) windowSeconds = seconds;
+    }
+
+    // -------------------------
+    // Last window (overlay)
+    // -------------------------
+
+    /** Latest single sample (flight recorder). */
+    public long lastNanos(ProfileScope s) { return lastNs[s.ordinal()]; }
+
+    public long calls(ProfileScope s) { return calls[s.ordinal()]; }
+    public float p50Ms(ProfileScope s) { return p50[s.ordinal()] / 1_000_000f; }
+    public float p95Ms(ProfileScope s) { return p95[s.ordinal()] / 1_000_000f; }
+    public float p99Ms(ProfileScope s) { return p99[s.ordinal()] / 1_000_000f; }
+    public float maxMs(ProfileScope s) { return max[s.ordinal()] / 1_000_000f; }
+
+    /** Scopes with samples in the last window, worst p99 first. Returns how many were written to out. */
+    public int topByP99(ProfileScope[] out) {
+        int n = 0;
+        for (int i = 0; i < N; i++) {
+            if (calls[i] == 0) continue;
+
+            // insertion into the (small) sorted prefix; full -> replaces the last one if worse
+            int j;
+            if (n < out.length) j = n++;
+            else if (p99[i] > p99[out[n - 1].ordinal()]) j = n - 1;
+            else continue;
+
+            while (j > 0 && p99[out[j - 1].ordinal()] < p99[i]) {
+                out[j] = out[j - 1];
+                j--;
+            }
+            out[j] = SCOPES[i];
+        }
+        return n;
+    }
+
+    public LatencyHistogram session(ProfileScope s) { return session[s.ordinal()]; }
+
+    /** Session percentiles, one row per scope (ms). */
+    public void writeCsv(Writer out) throws IOException {
+        out.write("scope,calls,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+        for (int i = 0; i < N; i++) {
+            LatencyHistogram h = session[i];
+            out.write(String.format(Locale.ROOT, "%s,%d,%.4f,%.4f,%.4f,%.4f,%.4f\n",
+                SCOPES[i].label, h.count(),
+                h.meanNanos() / 1e6, h.percentileNanos(50) / 1e6, h.percentileNanos(95) / 1e6,
+                h.percentileNanos(99) / 1e6, h.maxNanos() / 1e6));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.analiticasoft.hitraider.diagnostics.profiler;
+
+import java.util.Arrays;
+
+/**
+ * LatencyHistogram: fixed log-linear buckets (HDR style), record() is O(1) and never allocates.
+ * - values < 16ns: one bucket each
+ * - above: 16 sub-buckets per power of two (<= ~6% relative error), up to ~2^40 ns (18 min)
+ * - percentiles report the bucket's upper bound (never under-reports); max/mean are exact
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int MAX_MSB = 40;
+    static final int BUCKETS = (MAX_MSB - SUB_BITS + 2) * SUB;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long sumNanos;
+    private long maxNanos;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[indexOf(nanos)]++;
+        total++;
+        sumNanos += nanos;
+        if (nanos > maxNanos) maxNanos = nanos;
+    }
+
+    static int indexOf(long v) {
+        if (v < SUB) return (int) v;
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        if (msb > MAX_MSB) return BUCKETS - 1;
+        int shift = msb - SUB_BITS;
+        int sub = (int) (v >>> shift) & (SUB - 1);
+        return (shift + 1) * SUB + sub;
+    }
+
+    /** Highest value that lands in the bucket. */
+    static long upperBoundOf(int index) {
+        if (index < SUB) return index;
+        int shift = index / SUB - 1;
+        int sub = index % SUB;
+        return ((long) (SUB + sub) << shift) + (1L << shift) - 1;
+    }
+
+    /** p in 0..100; 0 when empty. */
+    public long percentileNanos(double p) {
+        if (total == 0) return 0L;
+        long rank = Math.max(1L, (long) Math.ceil(total * p / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBoundOf(i), maxNanos);
+        }
+        return maxNanos;
+    }
+
+    public long count() { return total; }
+    public long maxNanos() { return maxNanos; }
+    public long meanNanos() { return total > 0 ? sumNanos / total : 0L; }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        total = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.analiticasoft.hitraider.diagnostics.profiler;
+
+/**
+ * Named stages timed by FrameProfiler (enum = array index, no string lookups while recording).
+ * Nested scopes are fine (SIM_STEP contains PLAYER..VISUAL_TIMERS); sim scopes record once per fixed step.
+ */
+public enum ProfileScope {
+    FRAME("frame"),
+    TICK("runtime.tick"),
+    SIM_STEP("sim.step"),
+    WEAPONS("weapons"),
+    PLAYER("player"),
+    ENEMY_AI("enemy.ai"),
+    ENEMY_DECIDE("enemy.decide"),
+    COMBAT("combat"),
+    PHYSICS_STEP("physics.step"),
+    PROJECTILE_IMPACTS("projectiles.impacts"),
+    DESTROY_FLUSH("destroyQueue.flush"),
+    PROJECTILES("projectiles"),
+    PICKUPS("pickups"),
+    EVENTS("events"),
+    ROOM_SWAP("room.swap"),
+    VISUAL_TIMERS("visual.timers"),
+    CAMERA("camera"),
+    RENDER_WORLD("render.world"),
+    RENDER_UI("render.ui");
+
+    public final String label;
+
+    ProfileScope(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,151 @@
+package com.analiticasoft.hitraider.diagnostics.snapshot;
+
+import com.analiticasoft.hitraider.diagnostics.profiler.ProfileScope;
+import com.analiticasoft.hitraider.entities.Player;
+import com.analiticasoft.hitraider.gameplay.GameplayContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+/**
+ * FlightRecorder: ring of compact binary GameSnapshots, one per fixed sim tick (last ~10s).
+ * - One preallocated ByteBuffer, absolute puts: capture() never allocates
+ * - Decoded to text only when a crash report is written (ErrorGuard -> CrashReporter)
+ *
+ * Record layout (RECORD_BYTES):
+ * int tick | byte room | byte playerState | short hp | float x | float y |
+ * short melee | short ranged | short projectiles | short pickups | short bodies | short destroyed |
+ * float frameMs | float stepMs | byte flags (1 door closed, 2 hitstop, 4 strict frozen, 8 transitioning) |
+ * int seed (low bits of the run seed: tells runs apart across a restart)
+ */
+public final class FlightRecorder {
+
+    public static final float DEFAULT_SECONDS = 10f;
+
+    private static final int RECORD_BYTES = 41;
+
+    private static final int OFF_TICK = 0;
+    private static final int OFF_ROOM = 4;
+    private static final int OFF_STATE = 5;
+    private static final int OFF_HP = 6;
+    private static final int OFF_X = 8;
+    private static final int OFF_Y = 12;
+    private static final int OFF_MELEE = 16;
+    private static final int OFF_RANGED = 18;
+    private static final int OFF_PROJ = 20;
+    private static final int OFF_PICKUPS = 22;
+    private static final int OFF_BODIES = 24;
+    private static final int OFF_DESTROYED = 26;
+    private static final int OFF_FRAME_MS = 28;
+    private static final int OFF_STEP_MS = 32;
+    private static final int OFF_FLAGS = 36;
+    private static final int OFF_SEED = 37;
+
+    private static final int FLAG_DOOR = 1;
+    private static final int FLAG_HITSTOP = 2;
+    private static final int FLAG_FROZEN = 4;
+    private static final int FLAG_TRANSITION = 8;
+
+    private static final Player.State[] PLAYER_STATES = Player.State.values();
+
+    private final ByteBuffer ring;
+    private final int capacity;
+
+    private int next = 0;   // slot written by the next capture
+    private int size = 0;
+    private int tick = 0;
+
+    public FlightRecorder(int capacityTicks) {
+        this.capacity = Math.max(1, capacityTicks);
+        this.ring = ByteBuffer.allocate(capacity * RECORD_BYTES);
+    }
+
+    /** After each fixed sim step. frameDelta = the render frame that ran this step. */
+    public void capture(GameplayContext ctx, float frameDelta) {
+        int base = next * RECORD_BYTES;
+
+        int flags = 0;
+        if (ctx.doorClosed) flags |= FLAG_DOOR;
+        if (ctx.hitstopTimer > 0f) flags |= FLAG_HITSTOP;
+        if (ctx.frozenByStrict) flags |= FLAG_FROZEN;
+        if (ctx.transition.isTransitioning()) flags |= FLAG_TRANSITION;
+
+        Player p = ctx.run.player;
+        ring.putInt(base + OFF_TICK, tick++);
+        ring.put(base + OFF_ROOM, (byte) ctx.run.run.index);
+        ring.put(base + OFF_STATE, (byte) (p != null ? p.getState().ordinal() : -1));
+        ring.putShort(base + OFF_HP, (short) (p != null ? p.getHealth().getHp() : 0));
+        ring.putFloat(base + OFF_X, p != null ? p.getXpx() : 0f);
+        ring.putFloat(base + OFF_Y, p != null ? p.getYpx() : 0f);
+        ring.putShort(base + OFF_MELEE, (short) ctx.run.enemies.meleeCount());
+        ring.putShort(base + OFF_RANGED, (short) ctx.run.enemies.rangedCount());
+        ring.putShort(base + OFF_PROJ, (short) (ctx.run.projectiles != null ? ctx.run.projectiles.projectiles.size : 0));
+        ring.putShort(base + OFF_PICKUPS, (short) ctx.run.pickups.size);
+        ring.putShort(base + OFF_BODIES, (short) (ctx.run.physics != null ? ctx.run.physics.world.getBodyCount() : 0));
+        ring.putShort(base + OFF_DESTROYED, (short) ctx.destroyQueue.lastDestroyed());
+        ring.putFloat(base + OFF_FRAME_MS, frameDelta * 1000f);
+        ring.putFloat(base + OFF_STEP_MS, ctx.profiler.lastNanos(ProfileScope.SIM_STEP) / 1_000_000f);
+        ring.put(base + OFF_FLAGS, (byte) flags);
+        ring.putInt(base + OFF_SEED, (int) ctx.run.run.seed);
+
+        next = (next + 1) % capacity;
+        if (size < capacity) size++;
+    }
+
+    public int size() { return size; }
+
+    /** Detached copy (one array copy) so a crash report can be decoded on another thread. */
+    public FlightRecorder copy() {
+        FlightRecorder c = new FlightRecorder(capacity);
+        System.arraycopy(ring.array(), 0, c.ring.array(), 0, ring.capacity());
+        c.next = next;
+        c.size = size;
+        c.tick = tick;
+        return c;
+    }
+
+    public void clear() {
+        next = 0;
+        size = 0;
+    }
+
+    /** Oldest -> newest, one CSV-ish line per tick (crash reports only: allocates). */
+    public void writeTimeline(Writer w) throws IOException {
+        w.write("tick,seed,room,pState,hp,x,y,melee,ranged,proj,pickups,bodies,destroyed,frameMs,stepMs,flags\n");
+        int first = (next - size + capacity) % capacity;
+        for (int i = 0; i < size; i++) {
+            int base = ((first + i) % capacity) * RECORD_BYTES;
+            int state = ring.get(base + OFF_STATE);
+            int flags = ring.get(base + OFF_FLAGS);
+            w.write(String.format(Locale.ROOT, "%d,%d,%d,%s,%d,%.1f,%.1f,%d,%d,%d,%d,%d,%d,%.2f,%.3f,%s\n",
+                ring.getInt(base + OFF_TICK),
+                ring.getInt(base + OFF_SEED),
+                ring.get(base + OFF_ROOM),
+                state >= 0 && state < PLAYER_STATES.length ? PLAYER_STATES[state].name() : "-",
+                ring.getShort(base + OFF_HP),
+                ring.getFloat(base + OFF_X),
+                ring.getFloat(base + OFF_Y),
+                ring.getShort(base + OFF_MELEE),
+                ring.getShort(base + OFF_RANGED),
+                ring.getShort(base + OFF_PROJ),
+                ring.getShort(base + OFF_PICKUPS),
+                ring.getShort(base + OFF_BODIES),
+                ring.getShort(base + OFF_DESTROYED),
+                ring.getFloat(base + OFF_FRAME_MS),
+                ring.getFloat(base + OFF_STEP_MS),
+                flagsToString(flags)));
+        }
+    }
+
+    private static String flagsToString(int flags) {
+        if (flags == 0) return "-";
+        StringBuilder sb = new StringBuilder();
+        if ((flags & FLAG_DOOR) != 0) sb.append("D");
+        if ((flags & FLAG_HITSTOP) != 0) sb.append("H");
+        if ((flags & FLAG_FROZEN) != 0) sb.append("F");
+        if ((flags & FLAG_TRANSITION) != 0) sb.append("T");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,239 @@
+package com.analiticasoft.hitraider.entities;
+
+import com.analiticasoft.hitraider.combat.Damageable;
+import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+import java.util.Arrays;
+
+/**
+ * EnemyStore: every live enemy of the room (melee + ranged) as struct-of-arrays columns.
+ * - Dense columns [0, size): loops walk primitive arrays, no boxing, no parallel Arrays to keep in sync
+ * - removeAt(i) swap-removes every column at once (iterate backwards when removing in a loop)
+ * - Handles are stable for the enemy's lifetime (indexOf(handle) -> dense index, -1 once removed)
+ * - The AI state machines stay in MeleeEnemy / RangedEnemy (ref column, also the Box2D userData);
+ *   aiDt is the per-step hand-off between the LOD schedule, the (parallel) decide phase and the serial apply;
+ *   state/facing/hp are copied into columns by refresh(i) after each AI update, positions by the runtime after physics
+ */
+public final class EnemyStore {
+
+    public static final byte MELEE = 0;
+    public static final byte RANGED = 1;
+
+    public int size = 0;
+
+    // Identity
+    public byte[] kind;
+    public Damageable[] ref;
+    public Body[] body;
+    public int[] handle;
+    public int[] gridId;      // RunController.enemyGrid handle
+    public float[] aggroPx;
+
+    // AI (as of the last update of that enemy)
+    public int[] state;       // MeleeEnemy.State / RangedEnemy.State ordinal
+    public int[] facing;
+    public int[] hp;
+    public float[] aiDt;      // this step: seconds to decide, -1 = skipped (AI LOD)
+
+    // Position (px): x/y after the last physics step, prevX/prevY at the start of the step (render interpolation)
+    public float[] x, y, prevX, prevY;
+
+    // Sprites: state the current animation started in + time in it
+    public int[] animState;
+    public float[] animTime;
+
+    private int meleeCount = 0;
+    private int rangedCount = 0;
+
+    // handle -> dense index (-1 = free); free handles chained through freeNext
+    private int[] slotOf;
+    private int[] freeNext;
+    private int freeHead = -1;
+    private int handleTop = 0;
+
+    public EnemyStore() {
+        this(64);
+    }
+
+    public EnemyStore(int capacity) {
+        resize(Math.max(8, capacity));
+        slotOf = new int[kind.length];
+        freeNext = new int[kind.length];
+    }
+
+    private void resize(int cap) {
+        kind = kind == null ? new byte[cap] : Arrays.copyOf(kind, cap);
+        ref = ref == null ? new Damageable[cap] : Arrays.copyOf(ref, cap);
+        body = body == null ? new Body[cap] : Arrays.copyOf(body, cap);
+        handle = grow(handle, cap);
+        gridId = grow(gridId, cap);
+        aggroPx = grow(aggroPx, cap);
+        state = grow(state, cap);
+        facing = grow(facing, cap);
+        hp = grow(hp, cap);
+        aiDt = grow(aiDt, cap);
+        x = grow(x, cap);
+        y = grow(y, cap);
+        prevX = grow(prevX, cap);
+        prevY = grow(prevY, cap);
+        animState = grow(animState, cap);
+        animTime = grow(animTime, cap);
+    }
+
+    private static int[] grow(int[] a, int cap) { return a == null ? new int[cap] : Arrays.copyOf(a, cap); }
+    private static float[] grow(float[] a, int cap) { return a == null ? new float[cap] : Arrays.copyOf(a, cap); }
+
+    // -------------------------
+    // Add / remove
+    // -------------------------
+
+    public int add(MeleeEnemy e, int gridHandle) {
+        meleeCount++;
+        return add(MELEE, e, e.body, gridHandle, e.getAggroRangePx());
+    }
+
+    public int add(RangedEnemy e, int gridHandle) {
+        rangedCount++;
+        return add(RANGED, e, e.body, gridHandle, e.getAggroRangePx());
+    }
+
+    private int add(byte k, Damageable e, Body b, int gridHandle, float aggro) {
+        if (size == kind.length) resize(size * 2);
+
+        int h;
+        if (freeHead != -1) {
+            h = freeHead;
+            freeHead = freeNext[h];
+        } else {
+            if (handleTop == slotOf.length) {
+                slotOf = Arrays.copyOf(slotOf, slotOf.length * 2);
+                freeNext = Arrays.copyOf(freeNext, freeNext.length * 2);
+            }
+            h = handleTop++;
+        }
+
+        int i = size++;
+        slotOf[h] = i;
+
+        kind[i] = k;
+        ref[i] = e;
+        body[i] = b;
+        handle[i] = h;
+        gridId[i] = gridHandle;
+        aggroPx[i] = aggro;
+
+        Vector2 p = b.getPosition();
+        x[i] = prevX[i] = PhysicsConstants.toPixels(p.x);
+        y[i] = prevY[i] = PhysicsConstants.toPixels(p.y);
+
+        aiDt[i] = -1f;
+        refresh(i);
+        animState[i] = state[i];
+        animTime[i] = 0f;
+        return h;
+    }
+
+    /** Swap-remove: the last enemy moves into slot i (its handle stays valid). */
+    public void removeAt(int i) {
+        if (kind[i] == MELEE) meleeCount--;
+        else rangedCount--;
+
+        int h = handle[i];
+        slotOf[h] = -1;
+        freeNext[h] = freeHead;
+        freeHead = h;
+
+        int last = --size;
+        if (i != last) {
+            kind[i] = kind[last];
+            ref[i] = ref[last];
+            body[i] = body[last];
+            handle[i] = handle[last];
+            gridId[i] = gridId[last];
+            aggroPx[i] = aggroPx[last];
+            state[i] = state[last];
+            facing[i] = facing[last];
+            hp[i] = hp[last];
+            aiDt[i] = aiDt[last];
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            animState[i] = animState[last];
+            animTime[i] = animTime[last];
+            slotOf[handle[i]] = i;
+        }
+        ref[last] = null;
+        body[last] = null;
+    }
+
+    public void clear() {
+        Arrays.fill(ref, 0, size, null);
+        Arrays.fill(body, 0, size, null);
+        size = 0;
+        meleeCount = 0;
+        rangedCount = 0;
+        freeHead = -1;
+        handleTop = 0;
+    }
+
+    // -------------------------
+    // Columns
+    // -------------------------
+
+    /** Copies AI state / facing / hp from the entity after its update. */
+    public void refresh(int i) {
+        if (kind[i] == MELEE) {
+            MeleeEnemy e = (MeleeEnemy) ref[i];
+            state[i] = e.getState().ordinal();
+            facing[i] = e.getFacingDir();
+        } else {
+            RangedEnemy e = (RangedEnemy) ref[i];
+            state[i] = e.getState().ordinal();
+            facing[i] = e.getFacingDir();
+        }
+        hp[i] = ref[i].getHealth().getHp();
+    }
+
+    /** Start of a sim step (render interpolation). */
+    public void capturePrev() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /** Animation clocks: restart when the AI state changed since the last call, else advance. */
+    public void advanceAnimations(float dt) {
+        for (int i = 0; i < size; i++) {
+            if (state[i] != animState[i]) {
+                animState[i] = state[i];
+                animTime[i] = 0f;
+            } else {
+                animTime[i] += dt;
+            }
+        }
+    }
+
+    public boolean isIdle(int i) {
+        return state[i] == (kind[i] == MELEE ? MeleeEnemy.State.IDLE.ordinal() : RangedEnemy.State.IDLE.ordinal());
+    }
+
+    public float renderX(int i, float alpha) { return prevX[i] + (x[i] - prevX[i]) * alpha; }
+    public float renderY(int i, float alpha) { return prevY[i] + (y[i] - prevY[i]) * alpha; }
+
+    // -------------------------
+    // Lookup
+    // -------------------------
+
+    /** Dense index for a handle, -1 if that enemy is gone. */
+    public int indexOf(int h) {
+        return (h >= 0 && h < handleTop) ? slotOf[h] : -1;
+    }
+
+    public MeleeEnemy melee(int i) { return (MeleeEnemy) ref[i]; }
+    public RangedEnemy ranged(int i) { return (RangedEnemy) ref[i]; }
+
+    public int meleeCount() { return meleeCount; }
+    public int rangedCount() { return rangedCount; }
+}
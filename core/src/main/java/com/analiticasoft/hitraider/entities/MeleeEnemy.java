@@ -3,11 +3,14 @@ package com.analiticasoft.hitraider.entities;
 import com.analiticasoft.hitraider.combat.Damageable;
 import com.analiticasoft.hitraider.combat.Faction;
 import com.analiticasoft.hitraider.combat.HealthComponent;
+import com.analiticasoft.hitraider.config.CombatTuning;
 import com.analiticasoft.hitraider.physics.CollisionBits;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
 import com.analiticasoft.hitraider.world.MeleeEnemyProfile;
+import com.analiticasoft.hitraider.world.SpatialHash;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.IntArray;
 import com.analiticasoft.hitraider.combat.EnemyProfiles;
 
 public class MeleeEnemy implements Damageable {
@@ -16,10 +19,11 @@ public class MeleeEnemy implements Damageable {
 
     private EnemyProfiles.MeleeAIProfile profile;
     public final Body body;
+    public int gridId = -1; // RunController.enemyGrid handle
+    public int spawnIndex = 0; // order in the room's spawn list; seeds its relic drop (stable, unlike store slots)
     private final HealthComponent health = new HealthComponent(4);
 
     private State state = State.IDLE;
-    private State previousState = State.IDLE;
 
     private float telegraphTimer = 0f;
     private float attackTimer = 0f;
@@ -35,6 +39,15 @@ public class MeleeEnemy implements Damageable {
     private static final float AGGRO_RANGE_PX = 240f;
     private static final float ATTACK_RANGE_PX = 48f;
 
+    // CombatTuning.MELEE_SEPARATION: enemies don't collide with each other, queue behind an ally already between us and the player
+    private static final float SEPARATION_PX = 40f;
+    private static final float SEPARATION_MAX_DY_PX = 48f;
+    private static final IntArray SERIAL_SCRATCH = new IntArray(); // update() only (sim thread)
+
+    // decide() -> applyDecision()
+    private static final float KEEP_VELOCITY = Float.NaN;
+    private float desiredVx = KEEP_VELOCITY;
+
     private static final float TELEGRAPH_TIME = 0.45f;
     private static final float ATTACK_TIME = 1.5f;
     private static final float ATTACK_DELAY = 0.50f; // El golpe ocurre a los 0.5s de la animación
@@ -93,27 +106,42 @@ public class MeleeEnemy implements Damageable {
     }
 
     public void update(float delta, Player player) {
+        update(delta, player, null);
+    }
+
+    /** Serial convenience: decide + apply in one go (reads its own body). */
+    public void update(float delta, Player player, SpatialHash<Damageable> allies) {
+        decide(delta, getXpx(), getYpx(), player.getXpx(), allies, SERIAL_SCRATCH);
+        applyDecision();
+    }
+
+    /**
+     * AI decision for one step: touches only this enemy's own state, never Box2D, so enemies can decide in parallel.
+     * Positions come from the caller's snapshot; allies (enemy grid, null = ignore other enemies) is read-only here;
+     * scratch must not be shared between threads. The velocity is written later by applyDecision().
+     */
+    public void decide(float delta, float xPx, float yPx, float playerXpx,
+                       SpatialHash<Damageable> allies, IntArray scratch) {
         attackStartedThisFrame = false;
+        desiredVx = KEEP_VELOCITY;
 
         health.update(delta);
         if (!health.isAlive()) {
             state = State.DEAD;
             deathTimer -= delta;
-            Vector2 v = body.getLinearVelocity();
-            body.setLinearVelocity(0f, v.y);
+            desiredVx = 0f;
             return;
         }
 
         if (health.isStunned()) {
             state = State.STAGGER;
-            Vector2 v = body.getLinearVelocity();
-            body.setLinearVelocity(0f, v.y);
+            desiredVx = 0f;
             return;
         } else if (state == State.STAGGER) {
             state = State.CHASE;
         }
 
-        float dxPx = player.getXpx() - getXpx();
+        float dxPx = playerXpx - xPx;
         float distPx = Math.abs(dxPx);
 
         if (dxPx < -1f) facingDir = -1;
@@ -121,7 +149,7 @@ public class MeleeEnemy implements Damageable {
 
         switch (state) {
             case IDLE -> {
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
                 if (distPx <= AGGRO_RANGE_PX) state = State.CHASE;
             }
             case CHASE -> {
@@ -129,15 +157,15 @@ public class MeleeEnemy implements Damageable {
                 if (distPx <= ATTACK_RANGE_PX) {
                     state = State.TELEGRAPH;
                     telegraphTimer = TELEGRAPH_TIME;
-                    body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                    desiredVx = 0f;
                     break;
                 }
-                Vector2 v = body.getLinearVelocity();
-                body.setLinearVelocity(facingDir * CHASE_SPEED, v.y);
+                float speed = (CombatTuning.MELEE_SEPARATION && allies != null && hasAllyAhead(allies, xPx, yPx, scratch)) ? 0f : CHASE_SPEED;
+                desiredVx = facingDir * speed;
             }
             case TELEGRAPH -> {
                 telegraphTimer -= delta;
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
                 if (telegraphTimer <= 0f) {
                     state = State.ATTACK;
                     attackTimer = ATTACK_TIME;
@@ -146,7 +174,7 @@ public class MeleeEnemy implements Damageable {
             }
             case ATTACK -> {
                 attackTimer -= delta;
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
 
                 if (attackDelayTimer > 0f) {
                     attackDelayTimer -= delta;
@@ -162,26 +190,43 @@ public class MeleeEnemy implements Damageable {
             }
             case COOLDOWN -> {
                 cooldownTimer -= delta;
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
                 if (cooldownTimer <= 0f) state = State.CHASE;
             }
             case STAGGER, DEAD -> {}
         }
     }
 
-    public boolean didStartAttackThisFrame() { return attackStartedThisFrame; }
-    public int getFacingDir() { return facingDir; }
-    public int getDamage() { return DAMAGE; }
-    public State getState() { return state; }
+    /** Serial phase: writes the decided horizontal velocity (vertical untouched). */
+    public void applyDecision() {
+        if (Float.isNaN(desiredVx)) return;
+        body.setLinearVelocity(desiredVx, body.getLinearVelocity().y);
+    }
+
+    /** Live melee ally within SEPARATION_PX in the facing direction (same spot: lower handle goes first). */
+    private boolean hasAllyAhead(SpatialHash<Damageable> allies, float x, float y, IntArray scratch) {
+        scratch.clear();
+        allies.queryRadius(x, y, SEPARATION_PX, scratch);
 
-    public boolean hasStateChanged() {
-        if (state != previousState) {
-            previousState = state;
-            return true;
+        for (int i = 0; i < scratch.size; i++) {
+            int h = scratch.get(i);
+            if (h == gridId) continue;
+            Damageable d = allies.get(h);
+            if (!(d instanceof MeleeEnemy) || !d.isAlive()) continue;
+            if (Math.abs(allies.y(h) - y) > SEPARATION_MAX_DY_PX) continue;
+
+            float ahead = (allies.x(h) - x) * facingDir;
+            if (ahead > 0f || (ahead == 0f && h < gridId)) return true;
         }
         return false;
     }
 
+    public boolean didStartAttackThisFrame() { return attackStartedThisFrame; }
+    public int getFacingDir() { return facingDir; }
+    public float getAggroRangePx() { return AGGRO_RANGE_PX; }
+    public int getDamage() { return DAMAGE; }
+    public State getState() { return state; }
+
     public float getTelegraphAlpha() {
         if (state != State.TELEGRAPH) return 0f;
         float t = Math.max(0f, telegraphTimer) / TELEGRAPH_TIME;
@@ -6,6 +6,7 @@ import com.analiticasoft.hitraider.combat.HealthComponent;
 import com.analiticasoft.hitraider.input.Action;
 import com.analiticasoft.hitraider.input.InputState;
 import com.analiticasoft.hitraider.physics.CollisionBits;
+import com.analiticasoft.hitraider.physics.FixtureTag;
 import com.analiticasoft.hitraider.physics.GameContactListener;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
 import com.badlogic.gdx.math.Vector2;
@@ -167,7 +168,7 @@ public class Player implements Damageable {
         sfd.filter.maskBits = CollisionBits.WORLD;
 
         Fixture sensor = body.createFixture(sfd);
-        sensor.setUserData("player_ground_sensor");
+        sensor.setUserData(FixtureTag.PLAYER_GROUND_SENSOR);
         sensorShape.dispose();
 
         groundCounter = new GameContactListener.GroundContactCounter();
@@ -175,6 +176,7 @@ public class Player implements Damageable {
 
         body.setLinearDamping(0.0f);
         body.setAngularDamping(10.0f);
+        capturePrev();
     }
 
     public void update(float delta, InputState input) {
@@ -349,6 +351,14 @@ public class Player implements Damageable {
     public float getXpx() { return PhysicsConstants.toPixels(body.getPosition().x); }
     public float getYpx() { return PhysicsConstants.toPixels(body.getPosition().y); }
 
+    // Render interpolation (fixed-step sim): position at the start of the last sim step
+    private float prevXpx, prevYpx;
+
+    /** Call before each sim step. */
+    public void capturePrev() { prevXpx = getXpx(); prevYpx = getYpx(); }
+    public float getRenderXpx(float alpha) { return prevXpx + (getXpx() - prevXpx) * alpha; }
+    public float getRenderYpx(float alpha) { return prevYpx + (getYpx() - prevYpx) * alpha; }
+
     public boolean isFlashing() { return health.isFlashing(); }
 
     @Override public Faction getFaction() { return Faction.PLAYER; }
@@ -13,10 +13,10 @@ public class RangedEnemy implements Damageable {
     public enum State { IDLE, KITE, TELEGRAPH, SHOOT, COOLDOWN, STAGGER, DEAD }
 
     public final Body body;
+    public int gridId = -1; // RunController.enemyGrid handle
     private final HealthComponent health = new HealthComponent(3);
 
     private State state = State.IDLE;
-    private State previousState = State.IDLE;
 
     private float telegraphTimer = 0f;
     private float shootTimer = 0f;
@@ -27,6 +27,10 @@ public class RangedEnemy implements Damageable {
     private boolean shotThisFrame = false;
     private int facingDir = 1;
 
+    // decide() -> applyDecision()
+    private static final float KEEP_VELOCITY = Float.NaN;
+    private float desiredVx = KEEP_VELOCITY;
+
     private static final float AGGRO_RANGE_PX = 340f;
     private static final float KEEP_DISTANCE_PX = 160f;
     private static final float KITE_SPEED = 1.6f;
@@ -66,28 +70,37 @@ public class RangedEnemy implements Damageable {
         shape.dispose();
     }
 
+    /** Serial convenience: decide + apply in one go (reads its own body). */
     public void update(float delta, Player player) {
+        decide(delta, getXpx(), player.getXpx());
+        applyDecision();
+    }
+
+    /**
+     * AI decision for one step: touches only this enemy's own state, never Box2D (parallel-safe).
+     * xPx / playerXpx come from the caller's snapshot; the velocity is written later by applyDecision().
+     */
+    public void decide(float delta, float xPx, float playerXpx) {
         shotThisFrame = false;
+        desiredVx = KEEP_VELOCITY;
 
         health.update(delta);
         if (!health.isAlive()) {
             state = State.DEAD;
             deathTimer -= delta;
-            Vector2 v = body.getLinearVelocity();
-            body.setLinearVelocity(0f, v.y);
+            desiredVx = 0f;
             return;
         }
 
         if (health.isStunned()) {
             state = State.STAGGER;
-            Vector2 v = body.getLinearVelocity();
-            body.setLinearVelocity(0f, v.y);
+            desiredVx = 0f;
             return;
         } else if (state == State.STAGGER) {
             state = State.IDLE;
         }
 
-        float dx = player.getXpx() - getXpx();
+        float dx = playerXpx - xPx;
         float dist = Math.abs(dx);
 
         if (dx < -1f) facingDir = -1;
@@ -95,24 +108,23 @@ public class RangedEnemy implements Damageable {
 
         switch (state) {
             case IDLE -> {
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
                 if (dist <= AGGRO_RANGE_PX) state = State.KITE;
             }
             case KITE -> {
                 if (dist > AGGRO_RANGE_PX) { state = State.IDLE; break; }
 
-                Vector2 v = body.getLinearVelocity();
                 if (dist < KEEP_DISTANCE_PX) {
-                    body.setLinearVelocity(-facingDir * KITE_SPEED, v.y);
+                    desiredVx = -facingDir * KITE_SPEED;
                 } else {
-                    body.setLinearVelocity(0f, v.y);
+                    desiredVx = 0f;
                     state = State.TELEGRAPH;
                     telegraphTimer = TELEGRAPH_TIME;
                 }
             }
             case TELEGRAPH -> {
                 telegraphTimer -= delta;
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
                 if (telegraphTimer <= 0f) {
                     state = State.SHOOT;
                     shootTimer = SHOOT_TIME;
@@ -121,7 +133,7 @@ public class RangedEnemy implements Damageable {
             }
             case SHOOT -> {
                 shootTimer -= delta;
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
 
                 if (shootDelayTimer > 0f) {
                     shootDelayTimer -= delta;
@@ -137,25 +149,24 @@ public class RangedEnemy implements Damageable {
             }
             case COOLDOWN -> {
                 cooldownTimer -= delta;
-                body.setLinearVelocity(0f, body.getLinearVelocity().y);
+                desiredVx = 0f;
                 if (cooldownTimer <= 0f) state = State.KITE;
             }
             case STAGGER, DEAD -> {}
         }
     }
 
+    /** Serial phase: writes the decided horizontal velocity (vertical untouched). */
+    public void applyDecision() {
+        if (Float.isNaN(desiredVx)) return;
+        body.setLinearVelocity(desiredVx, body.getLinearVelocity().y);
+    }
+
     public boolean didShootThisFrame() { return shotThisFrame; }
     public int getFacingDir() { return facingDir; }
+    public float getAggroRangePx() { return AGGRO_RANGE_PX; }
     public State getState() { return state; }
 
-    public boolean hasStateChanged() {
-        if (state != previousState) {
-            previousState = state;
-            return true;
-        }
-        return false;
-    }
-
     public float getTelegraphAlpha() {
         if (state != State.TELEGRAPH) return 0f;
         float t = Math.max(0f, telegraphTimer) / TELEGRAPH_TIME;
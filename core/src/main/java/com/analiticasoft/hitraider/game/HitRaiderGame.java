@@ -1,32 +1,43 @@
 package com.analiticasoft.hitraider.game;
 
+import com.analiticasoft.hitraider.assets.SpriteManager;
 import com.analiticasoft.hitraider.assets.SpritePaths;
+import com.analiticasoft.hitraider.concurrent.MpscTaskQueue;
+import com.analiticasoft.hitraider.config.GameConfig;
 import com.analiticasoft.hitraider.diagnostics.CrashReporter;
 import com.analiticasoft.hitraider.diagnostics.CrashContext;
+import com.analiticasoft.hitraider.diagnostics.DiagnosticsWriter;
 import com.analiticasoft.hitraider.diagnostics.ErrorGuard;
-import com.analiticasoft.hitraider.screens.GameplayScreen;
+import com.analiticasoft.hitraider.screens.LoadingScreen;
 import com.analiticasoft.hitraider.screens.MenuScreen;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 
 import java.io.File;
-import java.util.ArrayDeque;
-import java.util.Deque;
 
 public class HitRaiderGame extends Game {
 
     private ErrorGuard errorGuard;
+    private DiagnosticsWriter diagnostics;
     private boolean musicMuted = false;
     private Music mainTheme;
 
-    // Simple main-thread task queue
-    private final Deque<Runnable> mainThreadQueue = new ArrayDeque<>();
+    // Shared sprites: streamed in once by LoadingScreen, reused by every GameplayScreen
+    private final SpriteManager sprites = new SpriteManager();
+
+    // Main-thread task queue (lock-free, posts from any thread; drained with a per-frame budget)
+    private final MpscTaskQueue mainThreadQueue = new MpscTaskQueue();
+    private final Runnable drainMainThreadQueue = this::drainMainThreadQueue;
+    private final Runnable renderScreen = super::render;
 
     @Override
     public void create() {
-        CrashReporter reporter = new CrashReporter(new File("crash-reports"));
-        errorGuard = new ErrorGuard(this, reporter);
+        File reportsDir = new File("crash-reports");
+        CrashReporter reporter = new CrashReporter(reportsDir);
+        diagnostics = new DiagnosticsWriter(reportsDir, reporter);
+        diagnostics.start();
+        errorGuard = new ErrorGuard(this, reporter, diagnostics);
 
         // Optional context provider (basic — GameplayScreen can set richer one later)
         errorGuard.setContextProvider(() -> new CrashContext()
@@ -52,18 +63,32 @@ public class HitRaiderGame extends Game {
 
     @Override
     public void render() {
-        // Execute queued tasks first (safe screen switches)
-        while (!mainThreadQueue.isEmpty()) {
-            Runnable r = mainThreadQueue.pollFirst();
-            if (r != null) r.run();
-        }
+        // Execute queued tasks first (safe screen switches); a throwing task goes through the guard too
+        errorGuard.guardFrame(drainMainThreadQueue);
 
         // Guard the whole frame
-        errorGuard.guardFrame(super::render);
+        errorGuard.guardFrame(renderScreen);
+    }
+
+    private void drainMainThreadQueue() {
+        mainThreadQueue.drain((long) (GameConfig.MAIN_QUEUE_BUDGET_MS * 1_000_000L));
     }
 
     public void restartToGameplay() {
-        setScreen(new GameplayScreen());
+        setScreen(new LoadingScreen(this));
+    }
+
+    public ErrorGuard errorGuard() {
+        return errorGuard;
+    }
+
+    /** Off-thread diagnostics I/O (logs, crash reports, dumps). */
+    public DiagnosticsWriter diagnostics() {
+        return diagnostics;
+    }
+
+    public SpriteManager sprites() {
+        return sprites;
     }
 
     public boolean isMusicMuted() {
@@ -82,8 +107,14 @@ public class HitRaiderGame extends Game {
         setMusicMuted(!musicMuted);
     }
 
+    /** Thread-safe: runs r on the render thread at the start of a coming frame. */
     public void postToMainThread(Runnable r) {
-        mainThreadQueue.addLast(r);
+        mainThreadQueue.post(r);
+    }
+
+    /** Depth / drain stats (HUD). */
+    public MpscTaskQueue mainThreadQueue() {
+        return mainThreadQueue;
     }
 
     private static int safeFps() {
@@ -95,5 +126,7 @@ public class HitRaiderGame extends Game {
     public void dispose() {
         if (getScreen() != null) getScreen().dispose();
         if (mainTheme != null) mainTheme.dispose();
+        sprites.shutdown();
+        if (diagnostics != null) diagnostics.shutdown(2000L); // flush pending records
     }
 }
@@ -0,0 +1,77 @@
+package com.analiticasoft.hitraider.gameplay;
+
+import com.analiticasoft.hitraider.combat.Damageable;
+import com.analiticasoft.hitraider.concurrent.ParallelFor;
+import com.analiticasoft.hitraider.config.GameConfig;
+import com.analiticasoft.hitraider.entities.EnemyStore;
+import com.analiticasoft.hitraider.world.SpatialHash;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * EnemyAiPhase: the decision half of the enemy update, spread over worker threads.
+ * - decide() runs MeleeEnemy/RangedEnemy.decide for every enemy with aiDt >= 0, in index chunks
+ * - Decisions only write the enemy's own fields and read a frozen world (store columns, grid, player x),
+ *   so the result doesn't depend on thread count or scheduling
+ * - Everything touching Box2D / combat / projectiles stays in the serial apply loop of GameplayRuntime
+ * - Below AI_PARALLEL_MIN_ENEMIES it runs inline (fork/join overhead beats the win for a normal room)
+ */
+public final class EnemyAiPhase {
+
+    private final ParallelFor parallel;
+    private final IntArray[] scratch; // per chunk (MeleeEnemy separation queries)
+
+    // Inputs of the decide() in flight (set/cleared on the sim thread)
+    private EnemyStore enemies;
+    private SpatialHash<Damageable> grid;
+    private float playerXpx;
+
+    private final ParallelFor.RangeTask decideRange = this::decideRange;
+
+    public EnemyAiPhase() {
+        this(GameConfig.AI_THREADS);
+    }
+
+    public EnemyAiPhase(int threads) {
+        parallel = new ParallelFor(threads, "hr-ai");
+        scratch = new IntArray[parallel.threads()];
+        for (int i = 0; i < scratch.length; i++) scratch[i] = new IntArray();
+    }
+
+    /** Sim thread; returns once every decision is made. */
+    public void decide(EnemyStore enemies, SpatialHash<Damageable> grid, float playerXpx) {
+        this.enemies = enemies;
+        this.grid = grid;
+        this.playerXpx = playerXpx;
+
+        int minPerChunk = enemies.size >= GameConfig.AI_PARALLEL_MIN_ENEMIES ? GameConfig.AI_CHUNK_MIN : Integer.MAX_VALUE;
+        try {
+            parallel.run(enemies.size, minPerChunk, decideRange);
+        } finally {
+            this.enemies = null;
+            this.grid = null;
+        }
+    }
+
+    private void decideRange(int from, int to, int chunk) {
+        IntArray s = scratch[chunk];
+        for (int i = from; i < to; i++) {
+            float dt = enemies.aiDt[i];
+            if (dt < 0f) continue;
+
+            if (enemies.kind[i] == EnemyStore.MELEE) {
+                enemies.melee(i).decide(dt, enemies.x[i], enemies.y[i], playerXpx, grid, s);
+            } else {
+                enemies.ranged(i).decide(dt, enemies.x[i], playerXpx);
+            }
+        }
+    }
+
+    public int threads() { return parallel.threads(); }
+
+    /** Chunks used last step (1 = ran on the sim thread only). */
+    public int lastChunks() { return parallel.lastChunks(); }
+
+    public void dispose() {
+        parallel.shutdown();
+    }
+}
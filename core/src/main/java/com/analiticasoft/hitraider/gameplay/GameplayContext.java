@@ -2,12 +2,20 @@ package com.analiticasoft.hitraider.gameplay;
 
 import com.analiticasoft.hitraider.assets.PlayerSprites;
 import com.analiticasoft.hitraider.assets.SpriteManager;
+import com.analiticasoft.hitraider.combat.weapons.WeaponLoadout;
+import com.analiticasoft.hitraider.config.PhysicsTuning;
 import com.analiticasoft.hitraider.controllers.*;
 import com.analiticasoft.hitraider.diagnostics.FrameStats;
+import com.analiticasoft.hitraider.diagnostics.profiler.FrameProfiler;
+import com.analiticasoft.hitraider.diagnostics.snapshot.FlightRecorder;
+import com.analiticasoft.hitraider.diagnostics.snapshot.GameSnapshot;
+import com.analiticasoft.hitraider.diagnostics.snapshot.PlayerSnapshot;
+import com.analiticasoft.hitraider.diagnostics.snapshot.RunSnapshot;
+import com.analiticasoft.hitraider.diagnostics.snapshot.WorldSnapshot;
 import com.analiticasoft.hitraider.physics.PhysicsDestroyQueue;
 import com.analiticasoft.hitraider.render.BackgroundParallax;
+import com.analiticasoft.hitraider.world.RoomInstance;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.utils.Array;
 
 /**
  * GameplayContext: shared runtime state for GameplayScreen subsystems.
@@ -20,31 +28,32 @@ public class GameplayContext {
     public final CameraController camera = new CameraController();
     public final ShakeController shake = new ShakeController();
     public final TransitionController transition = new TransitionController();
+    public final WeaponLoadout weapons = new WeaponLoadout();
+    public final AiLodController aiLod = new AiLodController();
 
     // Fortification
     public final PhysicsDestroyQueue destroyQueue = new PhysicsDestroyQueue();
     public final FrameStats frameStats = new FrameStats();
+    public final FrameProfiler profiler = new FrameProfiler();
+    public final FlightRecorder flight = new FlightRecorder(Math.round(FlightRecorder.DEFAULT_SECONDS / PhysicsTuning.SIM_DT));
 
     // Cameras
     public OrthographicCamera worldCamera;
     public OrthographicCamera uiCamera;
 
-    // Assets
-    public final SpriteManager sprites = new SpriteManager();
+    // Assets (owned by HitRaiderGame so restarts reuse what is already loaded)
+    public final SpriteManager sprites;
     public BackgroundParallax background;
 
     // Visual state timers
     public float playerStateTime = 0f;
     public PlayerSprites.State playerVisualState = PlayerSprites.State.IDLE;
 
-    // Enemy timers (parallel arrays)
-    public final Array<Float> meleeAnimTimes = new Array<>();
-    public final Array<Float> rangedAnimTimes = new Array<>();
-
     // Deferred flags
     public boolean restartRequested = false;
     public boolean reloadRequested = false;
     public boolean roomChanged = false;
+    public boolean runFinished = false; // last room exited (WinScreen on desktop, end of run for headless sims)
 
     // Strict debug
     public boolean strictModeOn = false;
@@ -52,6 +61,11 @@ public class GameplayContext {
     public boolean frozenByStrict = false;
     public String lastStrictError = null;
 
+    // Fixed-step sim: leftover time and render interpolation factor (0..1)
+    public float simAccumulator = 0f;
+    public float simAlpha = 1f;
+    public int simStepsLastFrame = 0;
+
     // Feel
     public float hitstopTimer = 0f;
     public int meleeHitCounter = 0;
@@ -59,4 +73,49 @@ public class GameplayContext {
     // Door state stays in context (simple, stable)
     public com.badlogic.gdx.physics.box2d.Body doorBody;
     public boolean doorClosed = false;
+
+    public GameplayContext() {
+        this(new SpriteManager());
+    }
+
+    public GameplayContext(SpriteManager sprites) {
+        this.sprites = sprites;
+    }
+
+    /** Gameplay state summary (F6 log, replay end-state check). Same state -> same toString(). */
+    public GameSnapshot snapshot(String phase) {
+        GameSnapshot s = new GameSnapshot();
+        s.phase = phase;
+
+        RoomInstance room = run.run.current();
+        RunSnapshot rs = new RunSnapshot();
+        rs.seed = run.run.seed;
+        rs.index = run.run.index;
+        rs.total = run.run.totalRooms;
+        rs.roomType = String.valueOf(room.type);
+        rs.templateId = room.template.id;
+        rs.budget = room.budget;
+        rs.planMelee = room.meleeCount;
+        rs.planRanged = room.rangedCount;
+        s.run = rs;
+
+        PlayerSnapshot ps = new PlayerSnapshot();
+        ps.state = String.valueOf(run.player.getState());
+        ps.hp = run.player.getHealth().getHp();
+        ps.maxHp = run.player.getHealth().getMaxHp();
+        ps.xPx = run.player.getXpx();
+        ps.yPx = run.player.getYpx();
+        ps.facingDir = run.player.getFacingDir();
+        s.player = ps;
+
+        WorldSnapshot ws = new WorldSnapshot();
+        ws.meleeEnemies = run.enemies.meleeCount();
+        ws.rangedEnemies = run.enemies.rangedCount();
+        ws.projectiles = run.projectiles.projectiles.size;
+        ws.pickups = run.pickups.size;
+        ws.doorClosed = doorClosed;
+        s.world = ws;
+
+        return s;
+    }
 }
@@ -2,18 +2,33 @@ package com.analiticasoft.hitraider.gameplay;
 
 import com.analiticasoft.hitraider.assets.PlayerStateMapper;
 import com.analiticasoft.hitraider.assets.PlayerSprites;
+import com.analiticasoft.hitraider.combat.Damageable;
 import com.analiticasoft.hitraider.combat.Projectile;
+import com.analiticasoft.hitraider.combat.weapons.WeaponRuntime;
 import com.analiticasoft.hitraider.config.CombatTuning;
+import com.analiticasoft.hitraider.config.GameConfig;
+import com.analiticasoft.hitraider.controllers.AiLodController;
+import com.analiticasoft.hitraider.config.PhysicsTuning;
 import com.analiticasoft.hitraider.config.PlayerTuning;
 import com.analiticasoft.hitraider.config.ShakeTuning;
+import com.analiticasoft.hitraider.diagnostics.profiler.FrameProfiler;
+import com.analiticasoft.hitraider.diagnostics.profiler.ProfileScope;
+import com.analiticasoft.hitraider.entities.EnemyStore;
 import com.analiticasoft.hitraider.entities.MeleeEnemy;
 import com.analiticasoft.hitraider.entities.RangedEnemy;
 import com.analiticasoft.hitraider.input.Action;
+import com.analiticasoft.hitraider.input.InputRecorder;
+import com.analiticasoft.hitraider.input.InputReplay;
 import com.analiticasoft.hitraider.input.InputState;
+import com.analiticasoft.hitraider.physics.FixtureTag;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
+import com.analiticasoft.hitraider.relics.RelicPickup;
+import com.analiticasoft.hitraider.world.LevelChunks;
 import com.analiticasoft.hitraider.world.RoomInstance;
+import com.analiticasoft.hitraider.world.SpatialHash;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
@@ -22,9 +37,24 @@ import com.badlogic.gdx.physics.box2d.PolygonShape;
 /**
  * GameplayRuntime: owns the fixed pipeline.
  * No rendering here. Only state updates and physics orchestration.
+ * - tick(): once per render frame; runs 0..MAX_SIM_STEPS fixed steps of SIM_DT
+ * - simStep(): all gameplay (entities, combat, physics, timers)
+ * - ctx.simAlpha: leftover fraction of a step, render systems interpolate with it
+ * - recorder/replay: tap the input each step sees (seed + per-step input reproduces the run)
+ * - every stage is timed into ctx.profiler (ProfileScope)
  */
 public class GameplayRuntime {
 
+    private static final float SIM_DT = PhysicsTuning.SIM_DT;
+
+    // Level streaming: geometry kept around the player's view (camera follows the player) + slack
+    private static final float STREAM_HALF_W_PX = GameConfig.VIRTUAL_W * 0.5f + 96f;
+
+    private InputRecorder recorder;
+    private InputReplay replay;
+
+    private final EnemyAiPhase aiPhase = new EnemyAiPhase();
+
     public void init(GameplayContext ctx) {
         // Inject destroy queue into run systems
         ctx.run.setDestroyQueue(ctx.destroyQueue);
@@ -34,7 +64,8 @@ public class GameplayRuntime {
         ctx.playerVisualState = PlayerStateMapper.map(ctx.run.player);
         ctx.playerStateTime = 0f;
 
-        syncEnemyTimers(ctx);
+        // Weapons fire through this run's physics systems
+        bindWeapons(ctx);
 
         // FrameStats tuning
         ctx.frameStats.setSpikeThresholdMs(33f);
@@ -78,21 +109,105 @@ public class GameplayRuntime {
             return;
         }
 
-        // transition
-        boolean finishedFadeOut = ctx.transition.update(delta);
-        if (finishedFadeOut) {
+        FrameProfiler prof = ctx.profiler;
+        prof.begin(ProfileScope.TICK);
+
+        // fixed-step sim: gameplay cost/behaviour no longer depends on the display rate
+        ctx.simAccumulator += Math.min(delta, PhysicsTuning.MAX_FRAME_TIME);
+        int steps = 0;
+        while (ctx.simAccumulator >= SIM_DT && steps < PhysicsTuning.MAX_SIM_STEPS) {
+            if (ctx.runFinished) break;
+            if (replay != null) {
+                if (!replay.next(input)) break; // log exhausted: hold the end state
+            } else {
+                input.beginTick(); // edges once per step (taps since the last step included)
+            }
+            if (recorder != null) recorder.record(input);
+
+            prof.begin(ProfileScope.SIM_STEP);
+            capturePrev(ctx);
+            simStep(ctx, input, SIM_DT);
+            prof.end(ProfileScope.SIM_STEP);
+            ctx.flight.capture(ctx, delta); // crash timeline (binary ring, no allocation)
+            input.endFrame(); // justPressed edges are consumed by the first step that sees them
+            ctx.simAccumulator -= SIM_DT;
+            steps++;
+        }
+        if (steps == PhysicsTuning.MAX_SIM_STEPS && ctx.simAccumulator >= SIM_DT) ctx.simAccumulator %= SIM_DT;
+        ctx.simStepsLastFrame = steps;
+        ctx.simAlpha = ctx.simAccumulator / SIM_DT;
+
+        // camera (render side: interpolated player, every frame)
+        prof.begin(ProfileScope.CAMERA);
+        ctx.camera.follow(ctx.worldCamera, ctx.run.player, ctx.simAlpha, delta);
+        ctx.shake.apply(ctx.worldCamera);
+        ctx.worldCamera.update();
+        prof.end(ProfileScope.CAMERA);
+
+        prof.end(ProfileScope.TICK);
+    }
+
+    /** Records the input of every following sim step (null stops). */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public InputRecorder getRecorder() { return recorder; }
+
+    /** Drives every following sim step from a log instead of the caller's input (null stops). */
+    public void setReplay(InputReplay replay) {
+        this.replay = replay;
+    }
+
+    public InputReplay getReplay() { return replay; }
+
+    /** Stops the AI worker threads (screen / headless run end). */
+    public void dispose() {
+        aiPhase.dispose();
+    }
+
+    private void bindWeapons(GameplayContext ctx) {
+        ctx.weapons.bind(new WeaponRuntime(ctx.run.physics.world, ctx.run.combat, ctx.run.projectiles, ctx.run.relics));
+    }
+
+    private void capturePrev(GameplayContext ctx) {
+        ctx.run.player.capturePrev();
+        ctx.run.enemies.capturePrev();
+        ctx.run.projectiles.capturePrev();
+    }
+
+    /** One fixed simulation step (SIM_DT). Everything that changes gameplay state lives here. */
+    private void simStep(GameplayContext ctx, InputState input, float step) {
+        FrameProfiler prof = ctx.profiler;
+
+        // transition (in sim time, so recorded runs change room on the same step when replayed)
+        if (ctx.transition.update(step)) {
+            prof.begin(ProfileScope.ROOM_SWAP);
             onRoomTransition(ctx);
+            prof.end(ProfileScope.ROOM_SWAP);
             return;
         }
 
+        // staged room swap: the new room's enemies arrive in fixed batches during the fade-in
+        if (ctx.run.pendingSpawns() > 0) {
+            prof.begin(ProfileScope.ROOM_SWAP);
+            ctx.run.spawnPending(GameConfig.ROOM_SPAWNS_PER_STEP);
+            prof.end(ProfileScope.ROOM_SWAP);
+        }
+
         // hitstop/freeze
-        float dt = delta;
+        float dt = step;
         if (ctx.hitstopTimer > 0f) {
-            ctx.hitstopTimer = Math.max(0f, ctx.hitstopTimer - delta);
+            ctx.hitstopTimer = Math.max(0f, ctx.hitstopTimer - step);
             dt = 0f;
         }
         if (ctx.frozenByStrict) dt = 0f;
 
+        // weapon timers/fire (not affected by hitstop, as before)
+        prof.begin(ProfileScope.WEAPONS);
+        ctx.weapons.step(step, input, ctx.run.player);
+        prof.end(ProfileScope.WEAPONS);
+
         // pre-update timers
         ctx.shake.update(dt);
         if (ctx.run.shootCooldown > 0f) ctx.run.shootCooldown = Math.max(0f, ctx.run.shootCooldown - dt);
@@ -101,37 +216,63 @@ public class GameplayRuntime {
         ctx.run.combat.beginFrame();
 
         // update entities
+        prof.begin(ProfileScope.PLAYER);
         updatePlayer(ctx, input, dt);
+        prof.end(ProfileScope.PLAYER);
+
+        prof.begin(ProfileScope.ENEMY_AI);
         updateEnemies(ctx, dt);
+        prof.end(ProfileScope.ENEMY_AI);
 
         // pre-physics
+        prof.begin(ProfileScope.COMBAT);
         ctx.run.combat.update(dt);
+        prof.end(ProfileScope.COMBAT);
 
-        // physics
-        ctx.run.physics.step(dt);
+        // physics (hitstop/freeze: world doesn't advance)
+        if (dt > 0f) {
+            streamLevel(ctx);
+
+            prof.begin(ProfileScope.PHYSICS_STEP);
+            ctx.run.physics.stepFixed();
+            prof.end(ProfileScope.PHYSICS_STEP);
+
+            syncEnemyPositions(ctx);
+        }
 
         // post-physics
+        prof.begin(ProfileScope.PROJECTILE_IMPACTS);
         ctx.run.projectiles.flushImpacts();
+        prof.end(ProfileScope.PROJECTILE_IMPACTS);
+
+        prof.begin(ProfileScope.DESTROY_FLUSH);
         ctx.destroyQueue.flush(ctx.run.physics.world, ctx.run.combat);
+        prof.end(ProfileScope.DESTROY_FLUSH);
+
+        prof.begin(ProfileScope.PROJECTILES);
         ctx.run.projectiles.update(dt);
+        prof.end(ProfileScope.PROJECTILES);
+
+        prof.begin(ProfileScope.PICKUPS);
         ctx.run.processPickupsChoiceAware();
+        prof.end(ProfileScope.PICKUPS);
 
         // post-physics events
+        prof.begin(ProfileScope.EVENTS);
         postPhysicsEvents(ctx, dt);
-
-        // camera
-        ctx.camera.follow(ctx.worldCamera, ctx.run.player);
-        ctx.shake.apply(ctx.worldCamera);
-        ctx.worldCamera.update();
+        prof.end(ProfileScope.EVENTS);
 
         // visual timers
+        prof.begin(ProfileScope.VISUAL_TIMERS);
         updateVisualTimers(ctx, dt);
+        prof.end(ProfileScope.VISUAL_TIMERS);
 
         // invariants
         if (ctx.strictModeOn) validateInvariants(ctx);
     }
 
     private void fullRestart(GameplayContext ctx) {
+        ctx.runFinished = false;
         ctx.shake.reset();
         ctx.hitstopTimer = 0f;
         ctx.meleeHitCounter = 0;
@@ -143,12 +284,17 @@ public class GameplayRuntime {
         ctx.run.startNewRun(true);
         ctx.run.projectiles.setDestroyQueue(ctx.destroyQueue);
 
+        // New run: fresh ammo, and the old WeaponRuntime points at the disposed world
+        ctx.weapons.reset();
+        bindWeapons(ctx);
+
         ctx.transition.startFadeIn();
         spawnDoorForCurrentRoom(ctx);
-        syncEnemyTimers(ctx);
+        ctx.aiLod.reset();
 
         ctx.playerVisualState = PlayerStateMapper.map(ctx.run.player);
         ctx.playerStateTime = 0f;
+        capturePrev(ctx); // no interpolation smear across the teleport
     }
 
     private void onRoomTransition(GameplayContext ctx) {
@@ -156,10 +302,11 @@ public class GameplayRuntime {
 
         if (ctx.run.run.hasNext()) {
             ctx.run.run.next();
-            ctx.run.loadCurrentRoom(false);
+            ctx.run.beginRoom(false); // enemies: spawnPending() over the next steps
             ctx.roomChanged = true;
         } else {
             // FINISH RUN: Go to WinScreen
+            ctx.runFinished = true;
             if (Gdx.app.getApplicationListener() instanceof com.analiticasoft.hitraider.game.HitRaiderGame) {
                 com.analiticasoft.hitraider.game.HitRaiderGame game = (com.analiticasoft.hitraider.game.HitRaiderGame) Gdx.app.getApplicationListener();
                 game.postToMainThread(() -> game.setScreen(new com.analiticasoft.hitraider.screens.WinScreen(game)));
@@ -172,10 +319,11 @@ public class GameplayRuntime {
 
         ctx.transition.startFadeIn();
         spawnDoorForCurrentRoom(ctx);
-        syncEnemyTimers(ctx);
+        ctx.aiLod.reset();
 
         ctx.playerVisualState = PlayerStateMapper.map(ctx.run.player);
         ctx.playerStateTime = 0f;
+        capturePrev(ctx); // no interpolation smear across the teleport
     }
 
     private void updatePlayer(GameplayContext ctx, InputState input, float dt) {
@@ -204,8 +352,7 @@ public class GameplayRuntime {
             float sx = ctx.run.player.getXpx() + ctx.run.player.getFacingDir() * PlayerTuning.PROJECTILE_SPAWN_OFFSET_X;
             float sy = ctx.run.player.getYpx() + PlayerTuning.PROJECTILE_SPAWN_OFFSET_Y;
 
-            Projectile p = new Projectile(
-                ctx.run.physics.world,
+            Projectile p = ctx.run.projectiles.spawn(
                 ctx.run.player.getFaction(),
                 dmg,
                 sx, sy,
@@ -215,7 +362,6 @@ public class GameplayRuntime {
             );
 
             p.piercesLeft = ctx.run.relics.getPiercingShots();
-            ctx.run.projectiles.spawn(p);
 
             ctx.run.shootCooldown = PlayerTuning.SHOOT_BASE_COOLDOWN * ctx.run.relics.getFireRateMultiplier();
         }
@@ -224,50 +370,124 @@ public class GameplayRuntime {
     private void updateEnemies(GameplayContext ctx, float dt) {
         if (ctx.run.inChoiceRoom) return;
 
-        for (int i = ctx.run.meleeEnemies.size - 1; i >= 0; i--) {
-            MeleeEnemy e = ctx.run.meleeEnemies.get(i);
-            e.update(dt, ctx.run.player);
-
-            if (e.didStartAttackThisFrame()) {
-                ctx.run.combat.spawnMeleeHitbox(e.body, e, e.getFaction(), e.getFacingDir(), 0, 1);
+        EnemyStore enemies = ctx.run.enemies;
+        SpatialHash<Damageable> grid = ctx.run.enemyGrid;
+        AiLodController lod = ctx.aiLod;
+        lod.beginStep();
+        float px = ctx.run.player.getXpx();
+        float py = ctx.run.player.getYpx();
+
+        // 1) Schedule (serial: LOD wakes/sleeps bodies). Enemies that slept through the last sync re-read their body,
+        //    a contact may have moved them since
+        for (int i = enemies.size - 1; i >= 0; i--) {
+            int id = enemies.gridId[i];
+            boolean wasAsleep = lod.isAsleep(id);
+            float edt = lod.schedule(id, enemies.body[i], enemies.isIdle(i), enemies.ref[i].getHealth(),
+                enemies.x[i], enemies.y[i], enemies.aggroPx[i], px, py, dt);
+            enemies.aiDt[i] = edt; // < 0: dormant, not its bucket this step
+
+            if (edt >= 0f && wasAsleep) {
+                Vector2 p = enemies.body[i].getPosition();
+                enemies.x[i] = PhysicsConstants.toPixels(p.x);
+                enemies.y[i] = PhysicsConstants.toPixels(p.y);
+                grid.update(id, enemies.x[i], enemies.y[i]);
             }
+        }
+
+        // 2) Decide (parallel for crowded rooms): own state only, world frozen
+        ctx.profiler.begin(ProfileScope.ENEMY_DECIDE);
+        aiPhase.decide(enemies, grid, px);
+        ctx.profiler.end(ProfileScope.ENEMY_DECIDE);
+
+        // 3) Apply (serial, fixed index order): velocities, hitboxes, projectiles, removals.
+        //    Backwards: removeAt(i) swaps in the last enemy, which was already applied this step
+        for (int i = enemies.size - 1; i >= 0; i--) {
+            if (enemies.aiDt[i] < 0f) continue;
 
-            if (e.shouldBeRemoved()) {
-                ctx.run.combat.purgeForBody(e.body);
-                ctx.destroyQueue.queueBody(e.body);
+            if (enemies.kind[i] == EnemyStore.MELEE) {
+                MeleeEnemy e = enemies.melee(i);
+                e.applyDecision();
+                enemies.refresh(i);
+
+                if (e.didStartAttackThisFrame()) {
+                    ctx.run.combat.spawnMeleeHitbox(e.body, e, e.getFaction(), e.getFacingDir(), 0, 1);
+                }
 
-                ctx.run.meleeEnemies.removeIndex(i);
-                ctx.run.meleeAnims.removeIndex(i);
-                if (i < ctx.meleeAnimTimes.size) ctx.meleeAnimTimes.removeIndex(i);
+                if (e.shouldBeRemoved()) {
+                    ctx.run.combat.purgeForBody(e.body);
+                    ctx.destroyQueue.queueBody(e.body);
+                    grid.remove(e.gridId);
+                    enemies.removeAt(i);
 
-                ctx.run.onEnemyKilledDrop(e, i);
+                    ctx.run.onEnemyKilledDrop(e);
+                }
+            } else {
+                RangedEnemy re = enemies.ranged(i);
+                re.applyDecision();
+                enemies.refresh(i);
+
+                if (re.didShootThisFrame()) {
+                    float sx = enemies.x[i] + re.getFacingDir() * 14f;
+                    float sy = enemies.y[i] + 10f;
+
+                    ctx.run.projectiles.spawn(
+                        re.getFaction(), 1,
+                        sx, sy,
+                        re.getFacingDir() * 7.5f, 0f,
+                        1.4f
+                    );
+                }
+
+                if (re.shouldBeRemoved()) {
+                    ctx.destroyQueue.queueBody(re.body);
+                    grid.remove(re.gridId);
+                    enemies.removeAt(i);
+                }
             }
         }
+    }
 
-        for (int i = ctx.run.rangedEnemies.size - 1; i >= 0; i--) {
-            RangedEnemy re = ctx.run.rangedEnemies.get(i);
-            re.update(dt, ctx.run.player);
-
-            if (re.didShootThisFrame()) {
-                float sx = re.getXpx() + re.getFacingDir() * 14f;
-                float sy = re.getYpx() + 10f;
-
-                Projectile p = new Projectile(
-                    ctx.run.physics.world, re.getFaction(), 1,
-                    sx, sy,
-                    re.getFacingDir() * 7.5f, 0f,
-                    1.4f
-                );
-                ctx.run.projectiles.spawn(p);
-            }
+    /** Before physics: level chunks around the view and under every dynamic body (positions as of the last sync). */
+    private void streamLevel(GameplayContext ctx) {
+        LevelChunks level = ctx.run.level;
+        if (level == null) return;
 
-            if (re.shouldBeRemoved()) {
-                ctx.destroyQueue.queueBody(re.body);
+        float px = ctx.run.player.getXpx();
+        level.touchRange(px - STREAM_HALF_W_PX, px + STREAM_HALF_W_PX);
 
-                ctx.run.rangedEnemies.removeIndex(i);
-                ctx.run.rangedAnims.removeIndex(i);
-                if (i < ctx.rangedAnimTimes.size) ctx.rangedAnimTimes.removeIndex(i);
-            }
+        EnemyStore enemies = ctx.run.enemies;
+        for (int i = 0; i < enemies.size; i++) level.touch(enemies.x[i]);
+
+        var projectiles = ctx.run.projectiles.projectiles;
+        for (int i = 0; i < projectiles.size; i++) {
+            Projectile p = projectiles.get(i);
+            if (p.state == Projectile.State.ALIVE) level.touch(p.lastXpx);
+        }
+
+        for (int i = 0; i < ctx.run.pickups.size; i++) {
+            RelicPickup p = ctx.run.pickups.get(i);
+            if (p.body != null) level.touch(p.getXpx());
+        }
+
+        level.apply();
+    }
+
+    /**
+     * After physics: body positions -> store columns + grid (incremental: same cell = position rewrite only).
+     * One body read per enemy (JNI), none for bodies AI LOD put to sleep (they haven't moved).
+     */
+    private void syncEnemyPositions(GameplayContext ctx) {
+        EnemyStore enemies = ctx.run.enemies;
+        SpatialHash<Damageable> grid = ctx.run.enemyGrid;
+        AiLodController lod = ctx.aiLod;
+        for (int i = 0; i < enemies.size; i++) {
+            if (lod.isAsleep(enemies.gridId[i])) continue;
+            Vector2 p = enemies.body[i].getPosition();
+            float x = PhysicsConstants.toPixels(p.x);
+            float y = PhysicsConstants.toPixels(p.y);
+            enemies.x[i] = x;
+            enemies.y[i] = y;
+            grid.update(enemies.gridId[i], x, y);
         }
     }
 
@@ -295,7 +515,7 @@ public class GameplayRuntime {
         int pw = ctx.run.projectiles.consumeImpactsWorld();
         if (pw > 0) ctx.shake.start(ShakeTuning.PROJ_HIT_WORLD_DUR, ShakeTuning.PROJ_HIT_WORLD_INT);
 
-        int alive = ctx.run.meleeEnemies.size + ctx.run.rangedEnemies.size;
+        int alive = ctx.run.enemies.size + ctx.run.pendingSpawns();
         ctx.run.encounter.update(dt, alive);
 
         if (ctx.run.canExit()) openDoor(ctx);
@@ -317,47 +537,15 @@ public class GameplayRuntime {
             ctx.playerStateTime += dt;
         }
 
-        for (int i = 0; i < ctx.run.meleeEnemies.size; i++) {
-            MeleeEnemy e = ctx.run.meleeEnemies.get(i);
-            if (e.hasStateChanged()) {
-                if (i < ctx.meleeAnimTimes.size) ctx.meleeAnimTimes.set(i, 0f);
-            } else {
-                if (i < ctx.meleeAnimTimes.size) ctx.meleeAnimTimes.set(i, ctx.meleeAnimTimes.get(i) + dt);
-            }
-        }
-
-        for (int i = 0; i < ctx.run.rangedEnemies.size; i++) {
-            RangedEnemy e = ctx.run.rangedEnemies.get(i);
-            if (e.hasStateChanged()) {
-                if (i < ctx.rangedAnimTimes.size) ctx.rangedAnimTimes.set(i, 0f);
-            } else {
-                if (i < ctx.rangedAnimTimes.size) ctx.rangedAnimTimes.set(i, ctx.rangedAnimTimes.get(i) + dt);
-            }
-        }
-    }
-
-    public void syncEnemyTimers(GameplayContext ctx) {
-        ctx.meleeAnimTimes.clear();
-        for (int i = 0; i < ctx.run.meleeEnemies.size; i++) ctx.meleeAnimTimes.add(0f);
-
-        ctx.rangedAnimTimes.clear();
-        for (int i = 0; i < ctx.run.rangedEnemies.size; i++) ctx.rangedAnimTimes.add(0f);
+        ctx.run.enemies.advanceAnimations(dt);
     }
 
     private void validateInvariants(GameplayContext ctx) {
-        if (ctx.run.meleeEnemies.size != ctx.meleeAnimTimes.size) {
-            onStrictFail(ctx, "Desync melee timers: enemies=" + ctx.run.meleeEnemies.size + " timers=" + ctx.meleeAnimTimes.size);
-            syncEnemyTimers(ctx);
-        }
-        if (ctx.run.rangedEnemies.size != ctx.rangedAnimTimes.size) {
-            onStrictFail(ctx, "Desync ranged timers: enemies=" + ctx.run.rangedEnemies.size + " timers=" + ctx.rangedAnimTimes.size);
-            syncEnemyTimers(ctx);
-        }
         if (ctx.doorBody != null && ctx.run.physics != null && ctx.doorBody.getWorld() != ctx.run.physics.world) {
             onStrictFail(ctx, "Door world mismatch");
             resetDoor(ctx);
         }
-        if (ctx.run.inChoiceRoom && (ctx.run.meleeEnemies.size + ctx.run.rangedEnemies.size) > 0) {
+        if (ctx.run.inChoiceRoom && ctx.run.enemies.size > 0) {
             onStrictFail(ctx, "Choice room has enemies alive");
         }
     }
@@ -388,7 +576,7 @@ public class GameplayRuntime {
         FixtureDef fd = new FixtureDef();
         fd.shape = s;
         Fixture fx = ctx.doorBody.createFixture(fd);
-        fx.setUserData("ground");
+        fx.setUserData(FixtureTag.GROUND);
         s.dispose();
 
         ctx.doorClosed = true;
@@ -1,7 +1,12 @@
 package com.analiticasoft.hitraider.gameplay.render;
 
+import com.analiticasoft.hitraider.assets.SpriteCache;
 import com.analiticasoft.hitraider.config.GameConfig;
 import com.analiticasoft.hitraider.config.UiTuning;
+import com.analiticasoft.hitraider.diagnostics.profiler.FrameProfiler;
+import com.analiticasoft.hitraider.diagnostics.profiler.ProfileScope;
+import com.analiticasoft.hitraider.concurrent.MpscTaskQueue;
+import com.analiticasoft.hitraider.game.HitRaiderGame;
 import com.analiticasoft.hitraider.gameplay.GameplayContext;
 import com.analiticasoft.hitraider.ui.HudPainter;
 import com.analiticasoft.hitraider.world.RoomInstance;
@@ -14,6 +19,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 public class UiRenderSystem {
 
     private final HudPainter hudPainter = new HudPainter();
+    private final ProfileScope[] topScopes = new ProfileScope[UiTuning.PROFILER_ROWS];
 
     public void renderUI(GameplayContext ctx, ShapeRenderer shapes, SpriteBatch batch, BitmapFont font,
                          boolean hudEssentialOn, boolean hudInfoOn,
@@ -86,7 +92,7 @@ public class UiRenderSystem {
 
             int hp = ctx.run.player.getHealth().getHp();
             int maxHp = ctx.run.player.getHealth().getMaxHp();
-            int enemiesAlive = ctx.run.meleeEnemies.size + ctx.run.rangedEnemies.size;
+            int enemiesAlive = ctx.run.enemies.size;
 
             font.draw(batch, "HP " + hp + "/" + maxHp, 14f, GameConfig.VIRTUAL_H - 60f);
             font.draw(batch, "Enemies: " + enemiesAlive, 14f, GameConfig.VIRTUAL_H - 78f);
@@ -112,6 +118,32 @@ public class UiRenderSystem {
             font.draw(batch, "FPS: " + fps, x, y); y -= 18f;
             font.draw(batch, String.format("Frame avg: %.1fms max: %.1fms spikes:%d",
                 ctx.frameStats.avgMs(), ctx.frameStats.maxMs(), ctx.frameStats.spikeCount()), x, y); y -= 18f;
+            font.draw(batch, String.format("Sim: %d steps/frame | alpha %.2f", ctx.simStepsLastFrame, ctx.simAlpha), x, y); y -= 18f;
+            font.draw(batch, "Draw calls: " + ctx.frameStats.drawCalls()
+                + " | Tex binds: " + ctx.frameStats.textureBindings(), x, y); y -= 18f;
+
+            SpriteCache sc = ctx.sprites.cache();
+            font.draw(batch, String.format("Sprites: %d/%d MB | hit %.1f%% | loads:%d evict:%d",
+                sc.residentBytes() >> 20, sc.budgetBytes() >> 20, sc.hitRate() * 100f, sc.loads(), sc.evictions()), x, y); y -= 18f;
+            font.draw(batch, "Projectiles: " + ctx.run.projectiles.projectiles.size
+                + " | pooled: " + ctx.run.projectiles.pool.getFree()
+                + " | created: " + ctx.run.projectiles.pool.created(), x, y); y -= 18f;
+            font.draw(batch, String.format("Destroy: %d/%d last %.2fms | retries:%d",
+                ctx.destroyQueue.lastDestroyed(), ctx.destroyQueue.lastQueued(), ctx.destroyQueue.lastFlushMs(),
+                ctx.destroyQueue.retries()), x, y); y -= 18f;
+            if (Gdx.app.getApplicationListener() instanceof HitRaiderGame) {
+                MpscTaskQueue q = ((HitRaiderGame) Gdx.app.getApplicationListener()).mainThreadQueue();
+                font.draw(batch, String.format("Main queue: depth %d | ran %d in %.2fms | lat max %.1fms",
+                    q.depth(), q.lastRan(), q.lastDrainMs(), q.lastMaxLatencyMs()), x, y); y -= 18f;
+            }
+            font.draw(batch, String.format("AI LOD %s: active %d | throttled %d | skipped %d | asleep %d",
+                ctx.aiLod.enabled ? "on" : "off", ctx.aiLod.active, ctx.aiLod.throttled, ctx.aiLod.skipped,
+                ctx.aiLod.sleeping), x, y); y -= 18f;
+            if (ctx.run.level != null) {
+                font.draw(batch, String.format("Level chunks: active %d/%d | bodies %d live / %d created",
+                    ctx.run.level.activeChunks(), ctx.run.level.chunkCount(),
+                    ctx.run.level.liveBodies(), ctx.run.level.createdBodies()), x, y); y -= 18f;
+            }
 
             font.draw(batch, "Seed: " + ctx.run.run.seed, x, y); y -= 18f;
             font.draw(batch, "Room: " + (ctx.run.run.index + 1) + "/" + ctx.run.run.totalRooms + " [" + room.type + "]", x, y); y -= 18f;
@@ -125,7 +157,29 @@ public class UiRenderSystem {
                 font.draw(batch, "Last strict: " + ctx.lastStrictError, x, y); y -= 18f;
             }
 
-            font.draw(batch, "F5 reload | F6 snapshot | F7 strict | F8 freeze | F9 unfreeze", x, 20f);
+            font.draw(batch, "F5 reload | F6 snapshot | F7 strict | F8 freeze | F9 unfreeze | F10 rec | F11 lod | F3 prof | F4 csv", x, 20f);
+        }
+
+        batch.end();
+    }
+
+    /** Worst scopes of the last profiler window (p99 desc). */
+    public void renderProfiler(GameplayContext ctx, SpriteBatch batch, BitmapFont font) {
+        FrameProfiler prof = ctx.profiler;
+        float x = UiTuning.PROFILER_X;
+        float y = GameConfig.VIRTUAL_H - UiTuning.PROFILER_Y_OFFSET;
+
+        batch.setProjectionMatrix(ctx.uiCamera.combined);
+        batch.begin();
+
+        font.draw(batch, "PROFILER (ms)   p50    p95    p99    max   calls", x, y); y -= 16f;
+        int n = prof.topByP99(topScopes);
+        if (n == 0) font.draw(batch, prof.enabled ? "(collecting...)" : "(disabled)", x, y);
+        for (int i = 0; i < n; i++) {
+            ProfileScope s = topScopes[i];
+            font.draw(batch, String.format("%-18s %6.2f %6.2f %6.2f %6.2f %5d",
+                s.label, prof.p50Ms(s), prof.p95Ms(s), prof.p99Ms(s), prof.maxMs(s), prof.calls(s)), x, y);
+            y -= 16f;
         }
 
         batch.end();
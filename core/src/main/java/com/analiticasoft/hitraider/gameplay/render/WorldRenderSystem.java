@@ -4,20 +4,24 @@ import com.analiticasoft.hitraider.assets.*;
 import com.analiticasoft.hitraider.combat.Faction;
 import com.analiticasoft.hitraider.combat.Projectile;
 import com.analiticasoft.hitraider.config.GameConfig;
-import com.analiticasoft.hitraider.entities.MeleeEnemy;
-import com.analiticasoft.hitraider.entities.RangedEnemy;
+import com.analiticasoft.hitraider.entities.EnemyStore;
 import com.analiticasoft.hitraider.gameplay.GameplayContext;
+import com.analiticasoft.hitraider.physics.FixtureTag;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
 import com.analiticasoft.hitraider.relics.RelicPickup;
 import com.analiticasoft.hitraider.render.DebugPhysicsRenderer;
+import com.analiticasoft.hitraider.render.FrameDraw;
+import com.analiticasoft.hitraider.world.LevelFactory;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
 
 public class WorldRenderSystem {
 
     private final DebugPhysicsRenderer debugPhysics = new DebugPhysicsRenderer();
+    private final Array<LevelFactory.PlatformRect> visibleRects = new Array<>();
 
     public void render(GameplayContext ctx, ShapeRenderer shapes, SpriteBatch batch,
                        boolean debugHitboxes, boolean debugHurtboxes) {
@@ -31,12 +35,17 @@ public class WorldRenderSystem {
             batch.end();
         }
 
+        // Fixed-step sim: draw dynamic things between their last two sim states
+        float alpha = ctx.simAlpha;
+
         // Shapes: world + projectiles + pickups + door
         shapes.setProjectionMatrix(ctx.worldCamera.combined);
         shapes.begin(ShapeRenderer.ShapeType.Filled);
 
-        if (ctx.run.platformRects != null) {
-            for (var p : ctx.run.platformRects) {
+        if (ctx.run.level != null) {
+            float halfW = ctx.worldCamera.viewportWidth * ctx.worldCamera.zoom * 0.5f;
+            float camX = ctx.worldCamera.position.x;
+            for (var p : ctx.run.level.collectVisible(camX - halfW, camX + halfW, visibleRects)) {
                 if ("oneway".equals(p.type)) shapes.setColor(0.35f, 0.35f, 0.38f, 1f);
                 else shapes.setColor(0.20f, 0.20f, 0.22f, 1f);
                 shapes.rect(p.cx - p.w / 2f, p.cy - p.h / 2f, p.w, p.h);
@@ -57,7 +66,7 @@ public class WorldRenderSystem {
             if (pr.state == Projectile.State.ALIVE) {
                 if (pr.faction == Faction.PLAYER) shapes.setColor(0.05f, 0.05f, 0.05f, 1f);
                 else shapes.setColor(0.10f, 0.10f, 0.25f, 1f);
-                shapes.rect(pr.lastXpx - 3f, pr.lastYpx - 3f, 6f, 6f);
+                shapes.rect(pr.renderXpx(alpha) - 3f, pr.renderYpx(alpha) - 3f, 6f, 6f);
             }
         }
 
@@ -68,45 +77,30 @@ public class WorldRenderSystem {
         batch.begin();
 
         EnemySprites meleeS = ctx.sprites.eldarMelee();
-        for (int i = 0; i < ctx.run.meleeEnemies.size; i++) {
-            MeleeEnemy e = ctx.run.meleeEnemies.get(i);
-            var st = EnemyStateMapper.map(String.valueOf(e.getState()));
-            float t = (i < ctx.meleeAnimTimes.size) ? ctx.meleeAnimTimes.get(i) : 0f;
-            TextureRegion frame = EnemySprites.isOneShot(st) ? meleeS.getOnce(st, t) : meleeS.get(st, t);
-
-            if (frame != null) {
-                float ex = e.getXpx();
-                float footY = e.getYpx() - meleeS.getOffset(st);
-                float sc = meleeS.getScale(st);
-                float w = frame.getRegionWidth() * sc;
-                float h = frame.getRegionHeight() * sc;
-
-                boolean flip = e.getFacingDir() < 0;
-                if (frame.isFlipX() != flip) frame.flip(true, false);
-
-                batch.draw(frame, ex - w / 2f, footY, w, h);
-            }
-        }
-
         EnemySprites rangedS = ctx.sprites.eldarRanged();
-        for (int i = 0; i < ctx.run.rangedEnemies.size; i++) {
-            RangedEnemy e = ctx.run.rangedEnemies.get(i);
-            var st = EnemyStateMapper.map(String.valueOf(e.getState()));
-            float t = (i < ctx.rangedAnimTimes.size) ? ctx.rangedAnimTimes.get(i) : 0f;
-            TextureRegion frame = EnemySprites.isOneShot(st) ? rangedS.getOnce(st, t) : rangedS.get(st, t);
-
-            if (frame != null) {
-                float ex = e.getXpx();
-                float footY = e.getYpx() - rangedS.getOffset(st);
-                float sc = rangedS.getScale(st);
-                float w = frame.getRegionWidth() * sc;
-                float h = frame.getRegionHeight() * sc;
-
-                boolean flip = e.getFacingDir() < 0;
+        EnemyStore enemies = ctx.run.enemies;
+        for (int i = 0; i < enemies.size; i++) {
+            boolean melee = enemies.kind[i] == EnemyStore.MELEE;
+            EnemySprites es = melee ? meleeS : rangedS;
+            EnemySprites.State st = EnemyStateMapper.map(enemies.kind[i], enemies.state[i]);
+            float t = enemies.animTime[i];
+            TextureRegion frame = EnemySprites.isOneShot(st) ? es.getOnce(st, t) : es.get(st, t);
+            if (frame == null) continue;
+
+            float ex = enemies.renderX(i, alpha);
+            float footY = enemies.renderY(i, alpha) - es.getOffset(st);
+            float sc = es.getScale(st);
+            float w = FrameDraw.width(frame) * sc;
+            float h = FrameDraw.height(frame) * sc;
+
+            boolean flip = enemies.facing[i] < 0;
+            if (melee) {
+                if (frame.isFlipX() != flip) frame.flip(true, false);
+                FrameDraw.draw(batch, frame, ex - w / 2f, footY, w, h);
+            } else {
                 float drawX = flip ? ex + w / 2f : ex - w / 2f;
                 float drawW = flip ? -w : w;
-
-                batch.draw(frame, drawX, footY, drawW, h);
+                FrameDraw.draw(batch, frame, drawX, footY, drawW, h);
             }
         }
 
@@ -116,17 +110,17 @@ public class WorldRenderSystem {
             : ps.get(ctx.playerVisualState, ctx.playerStateTime);
 
         if (pFrame != null) {
-            float px = ctx.run.player.getXpx();
-            float footY = ctx.run.player.getYpx() - ps.getOffset(ctx.playerVisualState);
+            float px = ctx.run.player.getRenderXpx(alpha);
+            float footY = ctx.run.player.getRenderYpx(alpha) - ps.getOffset(ctx.playerVisualState);
             float sc = ps.getScale(ctx.playerVisualState);
-            float w = pFrame.getRegionWidth() * sc;
-            float h = pFrame.getRegionHeight() * sc;
+            float w = FrameDraw.width(pFrame) * sc;
+            float h = FrameDraw.height(pFrame) * sc;
 
             boolean flip = ctx.run.player.getFacingDir() < 0;
             float drawX = flip ? px + w / 2f : px - w / 2f;
             float drawW = flip ? -w : w;
 
-            batch.draw(pFrame, drawX, footY, drawW, h);
+            FrameDraw.draw(batch, pFrame, drawX, footY, drawW, h);
         }
 
         batch.end();
@@ -140,14 +134,11 @@ public class WorldRenderSystem {
                 shapes.setColor(0.2f, 0.4f, 0.9f, 1f);
 
                 for (Fixture fx : ctx.run.player.body.getFixtureList()) {
-                    if ("player_ground_sensor".equals(fx.getUserData())) continue;
+                    if (fx.getUserData() == FixtureTag.PLAYER_GROUND_SENSOR) continue;
                     debugPhysics.drawFixtureOutline(shapes, fx);
                 }
-                for (MeleeEnemy e : ctx.run.meleeEnemies)
-                    for (Fixture fx : e.body.getFixtureList()) debugPhysics.drawFixtureOutline(shapes, fx);
-
-                for (RangedEnemy e : ctx.run.rangedEnemies)
-                    for (Fixture fx : e.body.getFixtureList()) debugPhysics.drawFixtureOutline(shapes, fx);
+                for (int i = 0; i < ctx.run.enemies.size; i++)
+                    for (Fixture fx : ctx.run.enemies.body[i].getFixtureList()) debugPhysics.drawFixtureOutline(shapes, fx);
             }
 
             if (debugHitboxes) {
@@ -12,5 +12,10 @@ public enum Action {
     ATTACK,
     SHOOT,
     DASH,
-    PAUSE
+    PAUSE,
+
+    // Weapons (were raw keys in GameplayScreen; actions so recordings/scripts can drive them)
+    WEAPON_1,
+    WEAPON_2,
+    RELOAD
 }
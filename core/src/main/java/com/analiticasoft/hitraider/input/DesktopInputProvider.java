@@ -2,8 +2,45 @@ package com.analiticasoft.hitraider.input;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
 
-public class DesktopInputProvider {
+/**
+ * Keyboard -> InputState.
+ * - poll(): held levels, once per frame
+ * - keyDown events (listen()): presses latched in between polls, so a tap shorter than a frame is not lost
+ */
+public class DesktopInputProvider extends InputAdapter {
+
+    private InputState listening;
+
+    /** Use as the screen's InputProcessor to latch presses into this state. */
+    public DesktopInputProvider listen(InputState state) {
+        this.listening = state;
+        return this;
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        if (listening == null) return false;
+        Action a = actionFor(keycode);
+        if (a != null) listening.press(a);
+        return false; // never consume (screen hotkeys still poll Gdx.input)
+    }
+
+    private static Action actionFor(int keycode) {
+        switch (keycode) {
+            case Input.Keys.W: case Input.Keys.UP: return Action.MOVE_UP;
+            case Input.Keys.S: case Input.Keys.DOWN: return Action.MOVE_DOWN;
+            case Input.Keys.SPACE: return Action.JUMP;
+            case Input.Keys.J: return Action.ATTACK;
+            case Input.Keys.K: return Action.SHOOT;
+            case Input.Keys.SHIFT_LEFT: return Action.DASH;
+            case Input.Keys.NUM_1: return Action.WEAPON_1;
+            case Input.Keys.NUM_2: return Action.WEAPON_2;
+            case Input.Keys.L: return Action.RELOAD;
+            default: return null;
+        }
+    }
 
     public void poll(InputState state) {
         boolean left  = Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT);
@@ -23,6 +60,10 @@ public class DesktopInputProvider {
         state.setDown(Action.SHOOT,  Gdx.input.isKeyPressed(Input.Keys.K));
         state.setDown(Action.DASH,   Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT));
 
+        state.setDown(Action.WEAPON_1, Gdx.input.isKeyPressed(Input.Keys.NUM_1));
+        state.setDown(Action.WEAPON_2, Gdx.input.isKeyPressed(Input.Keys.NUM_2));
+        state.setDown(Action.RELOAD,   Gdx.input.isKeyPressed(Input.Keys.L));
+
         // PAUSE should be tap (justPressed)
         state.setDown(Action.PAUSE,  Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE));
     }
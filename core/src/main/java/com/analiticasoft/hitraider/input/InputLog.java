@@ -0,0 +1,130 @@
+package com.analiticasoft.hitraider.input;
+
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ShortArray;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * InputLog: one run's input, one entry per fixed sim tick (seed + input == the whole run).
+ *
+ * Binary format (big endian, DataOutputStream):
+ * - int   MAGIC "HRIL", short VERSION
+ * - long  seed (RunManager.seed)
+ * - int   ticks, int runCount
+ * - runs: short downMask, short pressedMask, byte moveX (-127..127), unsigned short count   (RLE: held input repeats a lot)
+ * - UTF   end snapshot (GameSnapshot.toString() after the last tick, "" if none)
+ *
+ * pressedMask is stored because latched taps make it more than down & ~prevDown (release + re-press between ticks).
+ *
+ * An idle minute is one 7-byte run; mashing costs ~7-14 bytes per input change.
+ */
+public final class InputLog {
+
+    public static final int MAGIC = 0x4852494C; // "HRIL"
+    public static final short VERSION = 2;
+
+    private static final int MAX_RUN = 0xFFFF;
+
+    static {
+        if (Action.values().length > 16) throw new IllegalStateException("Action mask no longer fits in a short");
+    }
+
+    public final long seed;
+    private int ticks;
+
+    // Runs (parallel arrays)
+    private final ShortArray masks = new ShortArray();
+    private final ShortArray pressedMasks = new ShortArray();
+    private final ByteArray moves = new ByteArray();
+    private final IntArray counts = new IntArray();
+
+    public String endSnapshot = "";
+
+    public InputLog(long seed) {
+        this.seed = seed;
+    }
+
+    /** moveX (-1..1) -> byte; replays feed back dequantize(quantize(x)), recorders must too. */
+    public static byte quantizeMoveX(float moveX) {
+        return (byte) Math.round(Math.max(-1f, Math.min(1f, moveX)) * 127f);
+    }
+
+    public static float dequantizeMoveX(byte q) {
+        return q / 127f;
+    }
+
+    public void append(long mask, long pressedMask, byte moveX) {
+        int last = counts.size - 1;
+        if (last >= 0 && masks.get(last) == (short) mask && pressedMasks.get(last) == (short) pressedMask
+            && moves.get(last) == moveX && counts.get(last) < MAX_RUN) {
+            counts.incr(last, 1);
+        } else {
+            masks.add((short) mask);
+            pressedMasks.add((short) pressedMask);
+            moves.add(moveX);
+            counts.add(1);
+        }
+        ticks++;
+    }
+
+    public int ticks() { return ticks; }
+    public int runCount() { return counts.size; }
+
+    int maskAt(int run) { return masks.get(run) & 0xFFFF; }
+    int pressedMaskAt(int run) { return pressedMasks.get(run) & 0xFFFF; }
+    byte moveAt(int run) { return moves.get(run); }
+    int countAt(int run) { return counts.get(run); }
+
+    // -------------------------
+    // IO
+    // -------------------------
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeLong(seed);
+        data.writeInt(ticks);
+        data.writeInt(counts.size);
+        for (int i = 0; i < counts.size; i++) {
+            data.writeShort(masks.get(i));
+            data.writeShort(pressedMasks.get(i));
+            data.writeByte(moves.get(i));
+            data.writeShort(counts.get(i));
+        }
+        data.writeUTF(endSnapshot != null ? endSnapshot : "");
+        data.flush();
+    }
+
+    public static InputLog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) throw new IOException("Not an input log (bad magic)");
+        short version = data.readShort();
+        if (version != VERSION) throw new IOException("Unsupported input log version: " + version);
+
+        InputLog log = new InputLog(data.readLong());
+        int ticks = data.readInt();
+        int runs = data.readInt();
+        log.masks.ensureCapacity(runs);
+        log.pressedMasks.ensureCapacity(runs);
+        log.moves.ensureCapacity(runs);
+        log.counts.ensureCapacity(runs);
+        for (int i = 0; i < runs; i++) {
+            log.masks.add(data.readShort());
+            log.pressedMasks.add(data.readShort());
+            log.moves.add(data.readByte());
+            int count = data.readUnsignedShort();
+            log.counts.add(count);
+            log.ticks += count;
+        }
+        if (log.ticks != ticks) throw new IOException("Corrupt input log: ticks=" + ticks + " runs sum=" + log.ticks);
+        log.endSnapshot = data.readUTF();
+        return log;
+    }
+}
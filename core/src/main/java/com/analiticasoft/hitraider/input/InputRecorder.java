@@ -0,0 +1,29 @@
+package com.analiticasoft.hitraider.input;
+
+/**
+ * InputRecorder: appends the input each fixed sim step actually sees to an InputLog.
+ * moveX is quantized in place, so the recorded run and its replay see the exact same value.
+ */
+public final class InputRecorder {
+
+    private final InputLog log;
+
+    public InputRecorder(long seed) {
+        this.log = new InputLog(seed);
+    }
+
+    /** Call once per sim step, after beginTick() and right before the step consumes the input. */
+    public void record(InputState in) {
+        byte q = InputLog.quantizeMoveX(in.getMoveX());
+        in.setMoveX(InputLog.dequantizeMoveX(q));
+        log.append(in.getDownMask(), in.getPressedMask(), q);
+    }
+
+    public int ticks() { return log.ticks(); }
+
+    /** Stops recording: stores the end state to compare against on replay. */
+    public InputLog finish(String endSnapshot) {
+        log.endSnapshot = endSnapshot;
+        return log;
+    }
+}
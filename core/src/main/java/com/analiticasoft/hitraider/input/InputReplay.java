@@ -0,0 +1,35 @@
+package com.analiticasoft.hitraider.input;
+
+/**
+ * InputReplay: feeds an InputLog back, one tick per sim step (overrides polled/scripted input).
+ */
+public final class InputReplay {
+
+    public final InputLog log;
+
+    private int run = 0;
+    private int usedInRun = 0;
+    private int tick = 0;
+
+    public InputReplay(InputLog log) {
+        this.log = log;
+    }
+
+    /** Writes the next tick view into the state (instead of beginTick); false once the log is exhausted (state untouched). */
+    public boolean next(InputState in) {
+        if (done()) return false;
+
+        in.setTick(log.maskAt(run), log.pressedMaskAt(run));
+        in.setMoveX(InputLog.dequantizeMoveX(log.moveAt(run)));
+
+        tick++;
+        if (++usedInRun >= log.countAt(run)) {
+            run++;
+            usedInRun = 0;
+        }
+        return true;
+    }
+
+    public boolean done() { return tick >= log.ticks(); }
+    public int tick() { return tick; }
+}
@@ -1,42 +1,96 @@
 package com.analiticasoft.hitraider.input;
 
-import java.util.EnumMap;
-
+/**
+ * InputState: action bits (1L << ordinal), no boxing, no allocation.
+ * - setDown/press: raw level from the provider, any number of times per frame
+ * - beginTick(): once per fixed sim step, builds the tick view (down / pressed / released masks)
+ * - endFrame(): once per fixed sim step, after the step consumed it
+ * Presses between two steps are latched: a tap shorter than a step (or a frame with 0 steps)
+ * still shows up as down + justPressed for exactly one tick.
+ */
 public class InputState {
-    private final EnumMap<Action, Boolean> down = new EnumMap<>(Action.class);
-    private final EnumMap<Action, Boolean> prevDown = new EnumMap<>(Action.class);
+
+    // Raw level (last value the provider set) + edges seen since the last tick
+    private long down;
+    private long pressLatch;
+    private long releaseLatch;
+
+    // Tick view (what the sim reads)
+    private long tickDown;
+    private long prevDown;
+    private long pressed;
+    private long released;
 
     private float moveX; // -1..1
 
-    public InputState() {
-        for (Action a : Action.values()) {
-            down.put(a, false);
-            prevDown.put(a, false);
-        }
+    private static long bit(Action action) {
+        return 1L << action.ordinal();
     }
 
     public void setDown(Action action, boolean isDownNow) {
-        down.put(action, isDownNow);
+        long b = bit(action);
+        if (isDownNow) {
+            if ((down & b) == 0) pressLatch |= b;
+            down |= b;
+        } else {
+            if ((down & b) != 0) releaseLatch |= b;
+            down &= ~b;
+        }
+    }
+
+    /** Event-driven press (key down callback): latched even if released before the next poll. */
+    public void press(Action action) {
+        long b = bit(action);
+        pressLatch |= b;
+        down |= b;
+    }
+
+    /** Freezes this tick's view: held = level OR latched taps, edges against the previous tick. */
+    public void beginTick() {
+        tickDown = down | pressLatch;
+        pressed = (tickDown & ~prevDown) | pressLatch;    // release + re-press between ticks still counts
+        released = (prevDown & ~tickDown) | (releaseLatch & prevDown);
+        pressLatch = 0L;
+        releaseLatch = 0L;
+    }
+
+    /** Replays a recorded tick view as is (replaces beginTick for that step). */
+    public void setTick(long downMask, long pressedMask) {
+        down = downMask;
+        tickDown = downMask;
+        pressed = pressedMask & downMask;
+        released = prevDown & ~downMask;
+        pressLatch = 0L;
+        releaseLatch = 0L;
     }
 
     public boolean isDown(Action action) {
-        return Boolean.TRUE.equals(down.get(action));
+        return (tickDown & bit(action)) != 0;
     }
 
-    /** True solo el frame en que pasa de false -> true */
+    /** True solo el tick en que pasa de false -> true */
     public boolean isJustPressed(Action action) {
-        boolean d = Boolean.TRUE.equals(down.get(action));
-        boolean pd = Boolean.TRUE.equals(prevDown.get(action));
-        return d && !pd;
+        return (pressed & bit(action)) != 0;
+    }
+
+    /** True solo el tick en que pasa de true -> false */
+    public boolean isJustReleased(Action action) {
+        return (released & bit(action)) != 0;
     }
 
+    /** Held actions this tick, as bits (input logs). */
+    public long getDownMask() { return tickDown; }
+
+    /** Actions pressed this tick, as bits (input logs). */
+    public long getPressedMask() { return pressed; }
+
     public float getMoveX() { return moveX; }
     public void setMoveX(float moveX) { this.moveX = moveX; }
 
-    /** Llamar 1 vez por frame, al final del update */
+    /** Llamar 1 vez por tick, al final del step */
     public void endFrame() {
-        for (Action a : Action.values()) {
-            prevDown.put(a, down.get(a));
-        }
+        prevDown = tickDown;
+        pressed = 0L;
+        released = 0L;
     }
 }
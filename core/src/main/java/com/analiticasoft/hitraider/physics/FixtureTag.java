@@ -0,0 +1,11 @@
+package com.analiticasoft.hitraider.physics;
+
+/**
+ * Typed fixture userData for tags that used to be strings ("ground", "oneway", "player_ground_sensor").
+ * Compared by reference (==) in GameContactListener / debug draw.
+ */
+public enum FixtureTag {
+    GROUND,
+    ONE_WAY,
+    PLAYER_GROUND_SENSOR
+}
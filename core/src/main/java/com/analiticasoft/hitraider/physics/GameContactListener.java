@@ -6,11 +6,64 @@ import com.analiticasoft.hitraider.relics.RelicPickup;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
+/**
+ * Contact dispatch by CollisionBits category pair:
+ * - Table [catA][catB] -> handler id, precomputed once (negative id = fixtures swapped)
+ * - Each contact runs at most one handler; no string compares, tags are FixtureTag (==)
+ * - Pairs the masks can't produce (or unknown categories) -> NONE, early out
+ */
 public class GameContactListener implements ContactListener {
 
+    // Handler ids
+    private static final byte NONE       = 0;
+    private static final byte GROUND     = 1; // SENSOR  x WORLD
+    private static final byte HITBOX     = 2; // HITBOX  x PLAYER/ENEMY
+    private static final byte PROJECTILE = 3; // PROJECTILE x WORLD/PLAYER/ENEMY
+    private static final byte PICKUP     = 4; // PICKUP  x PLAYER
+    private static final byte ONE_WAY    = 5; // PLAYER  x WORLD (preSolve only)
+
+    // Categories are single bits 0x0001..0x0040 -> index 0..6
+    private static final int CATS = 7;
+    private static final byte[] BEGIN = new byte[CATS * CATS];
+    private static final byte[] PRE_SOLVE = new byte[CATS * CATS];
+
+    static {
+        pair(BEGIN, CollisionBits.SENSOR, CollisionBits.WORLD, GROUND);
+        pair(BEGIN, CollisionBits.HITBOX, CollisionBits.PLAYER, HITBOX);
+        pair(BEGIN, CollisionBits.HITBOX, CollisionBits.ENEMY, HITBOX);
+        pair(BEGIN, CollisionBits.PROJECTILE, CollisionBits.WORLD, PROJECTILE);
+        pair(BEGIN, CollisionBits.PROJECTILE, CollisionBits.PLAYER, PROJECTILE);
+        pair(BEGIN, CollisionBits.PROJECTILE, CollisionBits.ENEMY, PROJECTILE);
+        pair(BEGIN, CollisionBits.PICKUP, CollisionBits.PLAYER, PICKUP);
+
+        pair(PRE_SOLVE, CollisionBits.PLAYER, CollisionBits.WORLD, ONE_WAY);
+    }
+
+    private static void pair(byte[] table, short first, short second, byte handler) {
+        table[index(first) * CATS + index(second)] = handler;
+        table[index(second) * CATS + index(first)] = (byte) -handler;
+    }
+
+    /** Category bit -> 0..CATS-1, or -1 if it isn't a single known category. */
+    private static int index(int categoryBits) {
+        int bits = categoryBits & 0xFFFF;
+        if (bits == 0 || (bits & (bits - 1)) != 0) return -1;
+        int i = Integer.numberOfTrailingZeros(bits);
+        return (i < CATS) ? i : -1;
+    }
+
+    private static byte lookup(byte[] table, Fixture a, Fixture b) {
+        int ia = index(a.getFilterData().categoryBits);
+        int ib = index(b.getFilterData().categoryBits);
+        if (ia < 0 || ib < 0) return NONE;
+        return table[ia * CATS + ib];
+    }
+
     private final CombatSystem combat;
     private final ProjectileSystem projectiles;
 
+    private final Vector2 noKnockback = new Vector2();
+
     public GameContactListener(CombatSystem combat, ProjectileSystem projectiles) {
         this.combat = combat;
         this.projectiles = projectiles;
@@ -21,21 +74,18 @@ public class GameContactListener implements ContactListener {
         Fixture a = contact.getFixtureA();
         Fixture b = contact.getFixtureB();
 
-        // grounded
-        if (isGroundSensor(a) && isGroundLike(b)) incGroundContacts(a);
-        if (isGroundSensor(b) && isGroundLike(a)) incGroundContacts(b);
-
-        // melee hitboxes (only hit damageables; filter already prevents world/pickups)
-        if (Hitbox.isHitboxFixture(a)) combat.handleHitboxContact(a, b);
-        if (Hitbox.isHitboxFixture(b)) combat.handleHitboxContact(b, a);
-
-        // projectiles
-        handleProjectileContact(a, b);
-        handleProjectileContact(b, a);
-
-        // pickups
-        handleRelicPickup(a, b);
-        handleRelicPickup(b, a);
+        byte h = lookup(BEGIN, a, b);
+        if (h == NONE) return;
+        if (h < 0) { Fixture t = a; a = b; b = t; h = (byte) -h; }
+
+        switch (h) {
+            case GROUND -> { if (isGroundLike(b)) incGroundContacts(a); }
+            // melee hitboxes (only hit damageables; filter already prevents world/pickups)
+            case HITBOX -> combat.handleHitboxContact(a, b);
+            case PROJECTILE -> handleProjectileContact(a, b);
+            case PICKUP -> handleRelicPickup(a, b);
+            default -> {}
+        }
     }
 
     @Override
@@ -43,8 +93,11 @@ public class GameContactListener implements ContactListener {
         Fixture a = contact.getFixtureA();
         Fixture b = contact.getFixtureB();
 
-        if (isGroundSensor(a) && isGroundLike(b)) decGroundContacts(a);
-        if (isGroundSensor(b) && isGroundLike(a)) decGroundContacts(b);
+        byte h = lookup(BEGIN, a, b);
+        if (h != GROUND && h != -GROUND) return;
+        if (h < 0) { Fixture t = a; a = b; b = t; }
+
+        if (isGroundLike(b)) decGroundContacts(a);
     }
 
     @Override
@@ -53,13 +106,12 @@ public class GameContactListener implements ContactListener {
         Fixture a = contact.getFixtureA();
         Fixture b = contact.getFixtureB();
 
-        Fixture playerFix = null;
-        Fixture onewayFix = null;
-
-        if (isPlayerFixture(a) && isOneWay(b)) { playerFix = a; onewayFix = b; }
-        else if (isPlayerFixture(b) && isOneWay(a)) { playerFix = b; onewayFix = a; }
+        byte h = lookup(PRE_SOLVE, a, b);
+        if (h == NONE) return;
 
-        if (playerFix == null) return;
+        Fixture playerFix = (h > 0) ? a : b;
+        Fixture onewayFix = (h > 0) ? b : a;
+        if (onewayFix.getUserData() != FixtureTag.ONE_WAY) return;
 
         Body playerBody = playerFix.getBody();
         Body platformBody = onewayFix.getBody();
@@ -73,16 +125,15 @@ public class GameContactListener implements ContactListener {
 
     @Override public void postSolve(Contact contact, ContactImpulse impulse) {}
 
+    /** projFix is PROJECTILE, otherFix is WORLD / PLAYER / ENEMY (guaranteed by the table). */
     private void handleProjectileContact(Fixture projFix, Fixture otherFix) {
-        if (projFix == null || otherFix == null) return;
-
         Object pud = projFix.getUserData();
         if (!(pud instanceof Projectile p)) return;
 
         if (p.state == Projectile.State.IMPACT || p.hitLock > 0f || p.impactQueued) return;
 
         // ✅ world hit via category bits (no string dependency)
-        if (isWorldFixture(otherFix)) {
+        if (otherFix.getFilterData().categoryBits == CollisionBits.WORLD) {
             p.hitLock = 0.05f;
             projectiles.queueImpact(p);
             projectiles.notifyImpactWorld();
@@ -93,7 +144,7 @@ public class GameContactListener implements ContactListener {
         if (!(oud instanceof Damageable target)) return;
         if (target.getFaction() == p.faction) return;
 
-        target.applyDamage(p.damage, new Vector2(0, 0));
+        target.applyDamage(p.damage, noKnockback.setZero());
         projectiles.notifyImpactEnemy();
 
         // piercing
@@ -108,36 +159,18 @@ public class GameContactListener implements ContactListener {
         projectiles.queueImpact(p);
     }
 
+    /** pickupFix is PICKUP, otherFix is PLAYER (guaranteed by the table). */
     private void handleRelicPickup(Fixture pickupFix, Fixture otherFix) {
-        if (pickupFix == null || otherFix == null) return;
-
         Object pud = pickupFix.getUserData();
         if (!(pud instanceof RelicPickup pickup)) return;
-
-        Object oud = otherFix.getUserData();
-        if (!(oud instanceof Player)) return;
+        if (!(otherFix.getUserData() instanceof Player)) return;
 
         pickup.collected = true;
     }
 
-    private boolean isGroundSensor(Fixture f) {
-        return f != null && "player_ground_sensor".equals(f.getUserData());
-    }
-
-    private boolean isPlayerFixture(Fixture f) {
-        if (f == null) return false;
+    private static boolean isGroundLike(Fixture f) {
         Object ud = f.getUserData();
-        return (ud instanceof Player) || "player".equals(ud);
-    }
-
-    private boolean isGround(Fixture f) { return f != null && "ground".equals(f.getUserData()); }
-    private boolean isOneWay(Fixture f) { return f != null && "oneway".equals(f.getUserData()); }
-    private boolean isGroundLike(Fixture f) { return isGround(f) || isOneWay(f); }
-
-    private boolean isWorldFixture(Fixture f) {
-        if (f == null) return false;
-        Filter flt = f.getFilterData();
-        return flt != null && flt.categoryBits == CollisionBits.WORLD;
+        return ud == FixtureTag.GROUND || ud == FixtureTag.ONE_WAY;
     }
 
     private void incGroundContacts(Fixture sensor) {
@@ -5,6 +5,9 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /**
  * Cola única de destrucción Box2D.
@@ -13,68 +16,135 @@ import com.badlogic.gdx.utils.Array;
  * Encolar y ejecutar flush() SOLO después del physics.step().
  *
  * Best-effort: si el world está locked, reintenta el siguiente frame.
+ *
+ * - Dedup O(1): Body/Fixture no redefinen equals/hashCode, así que ObjectSet es un identity set
+ * - FixtureRef pooled (sin new por encolado)
+ * - Un solo purge batched en CombatSystem antes de destruir bodies
+ * - Contadores para medir hitches de transición (HUD)
  */
 public class PhysicsDestroyQueue {
 
-    private static class FixtureRef {
-        final Body body;
-        final Fixture fixture;
-        FixtureRef(Body body, Fixture fixture) {
-            this.body = body;
-            this.fixture = fixture;
+    private static class FixtureRef implements Pool.Poolable {
+        Body body;
+        Fixture fixture;
+
+        @Override
+        public void reset() {
+            body = null;
+            fixture = null;
         }
     }
 
+    private final Pool<FixtureRef> refPool = new Pool<>(16) {
+        @Override protected FixtureRef newObject() { return new FixtureRef(); }
+    };
+
+    // Insertion order (destroy order) + identity membership
     private final Array<Body> bodies = new Array<>();
+    private final ObjectSet<Body> bodySet = new ObjectSet<>();
     private final Array<FixtureRef> fixtures = new Array<>();
+    private final ObjectSet<Fixture> fixtureSet = new ObjectSet<>();
+
+    // Stats: "last" = last flush that ran, totals since creation
+    private int queuedSinceFlush = 0;
+    private int lastQueued = 0;
+    private int lastDestroyed = 0;
+    private long lastFlushNs = 0L;
+    private long totalQueued = 0L;
+    private long totalDestroyed = 0L;
+    private long duplicates = 0L;
+    private long retries = 0L;
 
     public void clear() {
         bodies.clear();
+        bodySet.clear(bodySet.size);
+        refPool.freeAll(fixtures);
         fixtures.clear();
+        fixtureSet.clear(fixtureSet.size);
     }
 
     public void queueBody(Body body) {
         if (body == null) return;
-        for (int i = 0; i < bodies.size; i++) if (bodies.get(i) == body) return;
+        if (!bodySet.add(body)) { duplicates++; return; }
         bodies.add(body);
+        queuedSinceFlush++;
+        totalQueued++;
     }
 
     public void queueFixture(Body body, Fixture fixture) {
         if (body == null || fixture == null) return;
-        for (int i = 0; i < fixtures.size; i++) {
-            FixtureRef fr = fixtures.get(i);
-            if (fr.body == body && fr.fixture == fixture) return;
-        }
-        fixtures.add(new FixtureRef(body, fixture));
+        // A fixture belongs to exactly one body, so the fixture alone is the key
+        if (!fixtureSet.add(fixture)) { duplicates++; return; }
+
+        FixtureRef fr = refPool.obtain();
+        fr.body = body;
+        fr.fixture = fixture;
+        fixtures.add(fr);
+        queuedSinceFlush++;
+        totalQueued++;
     }
 
+    public int pending() { return bodies.size + fixtures.size; }
+
     /** Ejecuta destrucciones. Llamar DESPUÉS de physics.step(delta). */
     public void flush(World world, CombatSystem combat) {
         if (world == null) return;
-        if (world.isLocked()) return;
+        if (world.isLocked()) {
+            if (pending() > 0) retries++;
+            return;
+        }
+
+        long t0 = TimeUtils.nanoTime();
+        int destroyed = 0;
 
         // Destroy fixtures first
         for (int i = fixtures.size - 1; i >= 0; i--) {
             FixtureRef fr = fixtures.get(i);
-            fixtures.removeIndex(i);
+            Body b = fr.body;
+            Fixture f = fr.fixture;
+            refPool.free(fr);
 
-            if (fr.body == null || fr.fixture == null) continue;
-            if (fr.body.getWorld() != world) continue;
-            if (!fr.body.getFixtureList().contains(fr.fixture, true)) continue;
+            if (b.getWorld() != world) continue;
+            if (!b.getFixtureList().contains(f, true)) continue;
 
-            try { fr.body.destroyFixture(fr.fixture); } catch (Throwable ignored) {}
+            try { b.destroyFixture(f); destroyed++; } catch (Throwable ignored) {}
+        }
+        fixtures.clear();
+        fixtureSet.clear(fixtureSet.size);
+
+        // One pass over active hitboxes for the whole batch (instead of one lookup per body)
+        if (combat != null && bodies.size > 0) {
+            try { combat.purgeForBodies(bodySet); } catch (Throwable ignored) {}
         }
 
         // Destroy bodies
         for (int i = bodies.size - 1; i >= 0; i--) {
             Body b = bodies.get(i);
-            bodies.removeIndex(i);
-
-            if (b == null) continue;
             if (b.getWorld() != world) continue;
+            try { world.destroyBody(b); destroyed++; } catch (Throwable ignored) {}
+        }
+        bodies.clear();
+        bodySet.clear(bodySet.size);
 
-            try { if (combat != null) combat.purgeForBody(b); } catch (Throwable ignored) {}
-            try { world.destroyBody(b); } catch (Throwable ignored) {}
+        if (queuedSinceFlush > 0 || destroyed > 0) {
+            lastQueued = queuedSinceFlush;
+            lastDestroyed = destroyed;
+            lastFlushNs = TimeUtils.nanoTime() - t0;
         }
+        queuedSinceFlush = 0;
+        totalDestroyed += destroyed;
     }
+
+    // -------------------------
+    // Stats (HUD / benchmarks)
+    // -------------------------
+
+    public int lastQueued() { return lastQueued; }
+    public int lastDestroyed() { return lastDestroyed; }
+    public float lastFlushMs() { return lastFlushNs / 1_000_000f; }
+    public long totalQueued() { return totalQueued; }
+    public long totalDestroyed() { return totalDestroyed; }
+    public long duplicates() { return duplicates; }
+    /** Flushes skipped because the world was locked (work retried next frame). */
+    public long retries() { return retries; }
 }
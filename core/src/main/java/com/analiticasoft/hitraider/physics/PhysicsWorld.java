@@ -1,5 +1,6 @@
 package com.analiticasoft.hitraider.physics;
 
+import com.analiticasoft.hitraider.config.PhysicsTuning;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 
@@ -7,7 +8,7 @@ public class PhysicsWorld {
     public final World world;
     private float accumulator = 0f;
 
-    private static final float TIME_STEP = 1f / 60f;
+    public static final float TIME_STEP = PhysicsTuning.SIM_DT;
     private static final int VELOCITY_ITERS = 6;
     private static final int POSITION_ITERS = 2;
 
@@ -15,8 +16,14 @@ public class PhysicsWorld {
         this.world = new World(gravity, true);
     }
 
+    /** One fixed step. Gameplay drives this from its own fixed-step loop (GameplayRuntime). */
+    public void stepFixed() {
+        world.step(TIME_STEP, VELOCITY_ITERS, POSITION_ITERS);
+    }
+
+    /** Accumulator variant for callers without their own sim loop (tools/benchmarks). */
     public void step(float delta) {
-        float frameTime = Math.min(delta, 0.25f);
+        float frameTime = Math.min(delta, PhysicsTuning.MAX_FRAME_TIME);
         accumulator += frameTime;
         while (accumulator >= TIME_STEP) {
             world.step(TIME_STEP, VELOCITY_ITERS, POSITION_ITERS);
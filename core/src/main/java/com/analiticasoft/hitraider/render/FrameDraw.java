@@ -0,0 +1,33 @@
+package com.analiticasoft.hitraider.render;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Draws animation frames in their logical (untrimmed) size.
+ * Atlas frames are packed with whitespace stripped, so size + placement come from
+ * originalWidth/Height + offsets; loose PNG frames draw as-is. Tuning values stay the same for both.
+ */
+public final class FrameDraw {
+    private FrameDraw() {}
+
+    public static float width(TextureRegion r) {
+        return (r instanceof AtlasRegion ar) ? ar.originalWidth : r.getRegionWidth();
+    }
+
+    public static float height(TextureRegion r) {
+        return (r instanceof AtlasRegion ar) ? ar.originalHeight : r.getRegionHeight();
+    }
+
+    /** Draws into the logical rect. Negative w mirrors horizontally (x is then the right edge). */
+    public static void draw(SpriteBatch batch, TextureRegion r, float x, float y, float w, float h) {
+        if (r instanceof AtlasRegion ar && (ar.packedWidth != ar.originalWidth || ar.packedHeight != ar.originalHeight)) {
+            float sx = w / ar.originalWidth;
+            float sy = h / ar.originalHeight;
+            batch.draw(r, x + ar.offsetX * sx, y + ar.offsetY * sy, ar.packedWidth * sx, ar.packedHeight * sy);
+            return;
+        }
+        batch.draw(r, x, y, w, h);
+    }
+}
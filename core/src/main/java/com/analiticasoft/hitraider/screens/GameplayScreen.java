@@ -1,34 +1,43 @@
 package com.analiticasoft.hitraider.screens;
 
-import com.analiticasoft.hitraider.combat.weapons.WeaponRuntime;
-import com.analiticasoft.hitraider.combat.weapons.WeaponType;
+import com.analiticasoft.hitraider.assets.SpriteManager;
+import com.analiticasoft.hitraider.config.AssetTuning;
 import com.analiticasoft.hitraider.config.GameConfig;
 import com.analiticasoft.hitraider.config.ParallaxTuning;
+import com.analiticasoft.hitraider.diagnostics.DiagnosticsWriter;
+import com.analiticasoft.hitraider.diagnostics.ErrorGuard;
+import com.analiticasoft.hitraider.diagnostics.profiler.ProfileScope;
 import com.analiticasoft.hitraider.game.HitRaiderGame;
 import com.analiticasoft.hitraider.gameplay.GameplayContext;
 import com.analiticasoft.hitraider.gameplay.GameplayRuntime;
 import com.analiticasoft.hitraider.gameplay.render.UiRenderSystem;
 import com.analiticasoft.hitraider.gameplay.render.WorldRenderSystem;
-import com.analiticasoft.hitraider.input.Action;
 import com.analiticasoft.hitraider.input.DesktopInputProvider;
+import com.analiticasoft.hitraider.input.InputLog;
+import com.analiticasoft.hitraider.input.InputRecorder;
 import com.analiticasoft.hitraider.input.InputState;
 import com.analiticasoft.hitraider.render.BackgroundParallax;
 import com.analiticasoft.hitraider.world.RoomInstance;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
+import java.io.OutputStream;
+import java.io.StringWriter;
+
 public class GameplayScreen implements Screen {
 
-    private final GameplayContext ctx = new GameplayContext();
+    private final GameplayContext ctx;
     private final GameplayRuntime runtime = new GameplayRuntime();
     private final WorldRenderSystem worldRenderer = new WorldRenderSystem();
     private final UiRenderSystem uiRenderer = new UiRenderSystem();
@@ -41,6 +50,9 @@ public class GameplayScreen implements Screen {
     private SpriteBatch batch;
     private BitmapFont font;
 
+    // Draw calls / texture binds (only enabled while the info HUD is visible)
+    private GLProfiler glProfiler;
+
     // ✅ Input system (FIX for NPE)
     private final InputState input = new InputState();
     private final DesktopInputProvider inputProvider = new DesktopInputProvider();
@@ -48,26 +60,24 @@ public class GameplayScreen implements Screen {
     // HUD toggles
     private boolean hudEssentialOn = true;
     private boolean hudInfoOn = false;
+    private boolean profilerOn = false;
 
     // Debug toggles
     private boolean debugHitboxes = false;
     private boolean debugHurtboxes = false;
 
-    // Weapon HUD runtime (Phase A)
-    private WeaponType currentWeapon = WeaponType.THUNDER_HAMMER;
-    private WeaponRuntime weaponRuntime;
-    private float weaponCooldown = 0f;
-
-    private static final int MAG_SIZE = 30;
-    private static final float RELOAD_TIME = 1.10f;
-    private int ammoInMag = MAG_SIZE;
-    private int ammoReserve = 120;
-    private boolean reloading = false;
-    private float reloadTimer = 0f;
+    // Input recording (F10): starts on the restart it requests, saved on F10 again / run end
+    private boolean recordPending = false;
 
     // ✅ Used to rebuild parallax after runtime reload clears its own flag
     private boolean backgroundRebuildPending = false;
 
+    private boolean disposed = false;
+
+    public GameplayScreen(SpriteManager sprites) {
+        this.ctx = new GameplayContext(sprites);
+    }
+
     @Override
     public void show() {
         worldCamera = new OrthographicCamera();
@@ -81,11 +91,12 @@ public class GameplayScreen implements Screen {
         shapes = new ShapeRenderer();
         batch = new SpriteBatch();
         font = new BitmapFont();
+        glProfiler = new GLProfiler(Gdx.graphics);
 
         ctx.worldCamera = worldCamera;
         ctx.uiCamera = uiCamera;
 
-        // Sprites + background
+        // Sprites + background (normally already streamed in by LoadingScreen; load() is a no-op then)
         ctx.sprites.load();
         rebuildBackground();
 
@@ -96,30 +107,46 @@ public class GameplayScreen implements Screen {
 
         // Ensure projectiles are also linked to queue (belt & suspenders)
         if (ctx.run.projectiles != null) ctx.run.projectiles.setDestroyQueue(ctx.destroyQueue);
+        prefetchNextRoom();
 
         // Transition + door
         ctx.transition.startFadeIn();
         runtime.spawnDoorForCurrentRoom(ctx);
-        runtime.syncEnemyTimers(ctx);
 
         // Runtime init
         runtime.init(ctx);
 
-        // Weapon runtime
-        weaponRuntime = new WeaponRuntime(ctx.run.physics.world, ctx.run.combat, ctx.run.projectiles, ctx.run.relics);
-        weaponCooldown = 0f;
+        // Key-down events latch taps shorter than a frame
+        Gdx.input.setInputProcessor(inputProvider.listen(input));
+
+        // Crash reports get this run's last ticks
+        if (Gdx.app.getApplicationListener() instanceof HitRaiderGame) {
+            ((HitRaiderGame) Gdx.app.getApplicationListener()).errorGuard().setFlightRecorder(ctx.flight);
+        }
     }
 
     @Override
     public void render(float delta) {
+        ctx.profiler.begin(ProfileScope.FRAME);
+
         // Poll input FIRST (so runtime/player never receives null input)
         inputProvider.poll(input);
 
         ctx.frameStats.update(delta);
+        ctx.profiler.frame(delta);
+
+        // Lazy sprite sets: finish uploads + LRU eviction (small budget, never a long stall)
+        ctx.sprites.update(AssetTuning.STREAM_BUDGET_MS);
 
         // HUD toggles
         if (Gdx.input.isKeyJustPressed(Input.Keys.F1) || Gdx.input.isKeyJustPressed(Input.Keys.TAB)) hudEssentialOn = !hudEssentialOn;
         if (Gdx.input.isKeyJustPressed(Input.Keys.F2)) hudInfoOn = !hudInfoOn;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) profilerOn = !profilerOn;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) dumpProfile();
+        if (hudInfoOn != glProfiler.isEnabled()) {
+            if (hudInfoOn) glProfiler.enable();
+            else glProfiler.disable();
+        }
 
         // Debug toggles
         if (Gdx.input.isKeyJustPressed(Input.Keys.H)) debugHitboxes = !debugHitboxes;
@@ -130,50 +157,62 @@ public class GameplayScreen implements Screen {
         if (Gdx.input.isKeyJustPressed(Input.Keys.F8)) runtime.toggleStrictFreeze(ctx);
         if (Gdx.input.isKeyJustPressed(Input.Keys.F9)) runtime.unfreeze(ctx);
 
+        // AI LOD A/B (changes the sim and isn't in the log: locked while recording, recordings always run with LOD on)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F11)) {
+            if (runtime.getRecorder() != null || recordPending) Gdx.app.log("REPLAY", "AI LOD toggle ignored while recording");
+            else ctx.aiLod.enabled = !ctx.aiLod.enabled;
+        }
+
         // Deferred reload/restart
         if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
             runtime.requestReload(ctx);
             backgroundRebuildPending = true; // ✅ we rebuild after tick
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) runtime.requestRestart(ctx);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
+            stopRecording(); // a recording covers exactly one seed
+            runtime.requestRestart(ctx);
+        }
 
         // Snapshot manual
         if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
-            Gdx.app.log("SNAPSHOT", buildSnapshotString("manual"));
+            DiagnosticsWriter diag = diagnostics();
+            if (diag != null) diag.log("SNAPSHOT", buildSnapshotString("manual"));
+            else Gdx.app.log("SNAPSHOT", buildSnapshotString("manual"));
+        }
+
+        // Record (restart + record from tick 0) / stop + save
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F10)) {
+            if (runtime.getRecorder() != null) {
+                stopRecording();
+            } else {
+                runtime.requestRestart(ctx);
+                recordPending = true;
+                ctx.aiLod.enabled = true; // as in headless replays
+            }
         }
 
-        // Back to menu
+        // Back to menu (setScreen -> hide() disposes this screen: nothing after this may touch it)
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            Gdx.app.getApplicationListener().render(); // Force a render before switching if needed? No, just switch.
             if (Gdx.app.getApplicationListener() instanceof HitRaiderGame) {
                 ((HitRaiderGame) Gdx.app.getApplicationListener()).setScreen(new MenuScreen((HitRaiderGame) Gdx.app.getApplicationListener()));
+                return;
             }
         }
 
-        // Weapon switching
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) currentWeapon = WeaponType.THUNDER_HAMMER;
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) currentWeapon = WeaponType.BOLTER;
-
-        // Reload manual
-        if (Gdx.input.isKeyJustPressed(Input.Keys.L)) startReload();
-
-        // cooldown timers
-        if (weaponCooldown > 0f) weaponCooldown = Math.max(0f, weaponCooldown - delta);
-
-        // reload timer
-        if (reloading) {
-            reloadTimer = Math.max(0f, reloadTimer - delta);
-            if (reloadTimer <= 0f) finishReload();
-        }
-
-        // ✅ Runtime tick with real input (FIX)
+        // ✅ Runtime tick with real input (FIX); weapon switch/reload/fire are input actions stepped inside it
         runtime.tick(ctx, input, delta);
 
-        // Weapon use (only blocks shooting during reload)
-        handleWeaponUse(delta);
+        // Restart done this tick (no sim steps ran): record from the new run's first step
+        if (recordPending && !ctx.restartRequested) {
+            recordPending = false;
+            runtime.setRecorder(new InputRecorder(ctx.run.run.seed));
+            Gdx.app.log("REPLAY", "Recording seed=" + ctx.run.run.seed);
+        }
+        if (ctx.runFinished) stopRecording();
 
         // If runtime processed reload this frame, rebuild background safely once
         if ((backgroundRebuildPending && !ctx.reloadRequested) || ctx.roomChanged) {
+            if (ctx.roomChanged) prefetchNextRoom();
             rebuildBackground();
             backgroundRebuildPending = false;
             ctx.roomChanged = false;
@@ -186,89 +225,92 @@ public class GameplayScreen implements Screen {
         worldViewport.apply();
 
         // Render world + UI
+        ctx.profiler.begin(ProfileScope.RENDER_WORLD);
         worldRenderer.render(ctx, shapes, batch, debugHitboxes, debugHurtboxes);
+        ctx.profiler.end(ProfileScope.RENDER_WORLD);
 
+        ctx.profiler.begin(ProfileScope.RENDER_UI);
         if (hudEssentialOn || hudInfoOn) {
             uiRenderer.renderUI(
                 ctx, shapes, batch, font,
                 hudEssentialOn, hudInfoOn,
-                weaponCooldown,
-                weaponName(currentWeapon),
-                ammoLabel(),
+                ctx.weapons.cooldown(),
+                ctx.weapons.weaponName(),
+                ctx.weapons.ammoLabel(),
                 ctx.strictFreezeOnFail
             );
         }
 
         uiRenderer.renderCriticalOverlay(ctx, batch, font);
+        if (profilerOn) uiRenderer.renderProfiler(ctx, batch, font);
+        ctx.profiler.end(ProfileScope.RENDER_UI);
 
-        input.endFrame();
-    }
-
-    private void handleWeaponUse(float delta) {
-        if (ctx.run.player == null || !ctx.run.player.isAlive()) return;
-
-        // Only bolter is executed here (ranged).
-        // Hammer is handled by Player.attack -> CombatSystem hitbox spawn in runtime (stable).
-        if (currentWeapon != WeaponType.BOLTER) return;
-
-        if (reloading) return;
-
-        // Auto-reload on empty if trying to shoot
-        if (input.isJustPressed(Action.SHOOT) && ammoInMag <= 0) {
-            startReload();
-            return;
+        if (glProfiler.isEnabled()) {
+            ctx.frameStats.recordGpu(glProfiler.getDrawCalls(), glProfiler.getTextureBindings());
+            glProfiler.reset();
         }
 
-        if (input.isJustPressed(Action.SHOOT) && weaponCooldown <= 0f) {
-            if (ammoInMag <= 0) return;
-
-            ammoInMag--;
-            int aimY = ctx.run.player.getAimY(input);
-            weaponRuntime.usePrimary(ctx.run.player, currentWeapon, aimY);
-            weaponCooldown = weaponRuntime.cooldownFor(currentWeapon);
-        }
+        ctx.profiler.end(ProfileScope.FRAME);
     }
 
-    private void startReload() {
-        if (currentWeapon != WeaponType.BOLTER) return;
-        if (reloading) return;
-        if (ammoInMag >= MAG_SIZE) return;
-        if (ammoReserve <= 0) return;
-
-        reloading = true;
-        reloadTimer = RELOAD_TIME;
+    /** Session percentiles per scope to local profiles/ (written by the diagnostics thread; never crashes the game). */
+    private void dumpProfile() {
+        FileHandle file = Gdx.files.local("profiles/profile-" + System.currentTimeMillis() + ".csv");
+        try {
+            StringWriter csv = new StringWriter();
+            ctx.profiler.writeCsv(csv);
+
+            DiagnosticsWriter diag = diagnostics();
+            if (diag != null) diag.submitText(file.file(), csv.toString());
+            else file.writeString(csv.toString(), false, "UTF-8");
+            Gdx.app.log("PROFILER", "Saving " + file.path());
+        } catch (Exception e) {
+            Gdx.app.error("PROFILER", "Could not save " + file.path(), e);
+        }
     }
 
-    private void finishReload() {
-        reloading = false;
-
-        int need = MAG_SIZE - ammoInMag;
-        if (need <= 0) return;
-
-        int taken = Math.min(need, ammoReserve);
-        ammoInMag += taken;
-        ammoReserve -= taken;
+    private static DiagnosticsWriter diagnostics() {
+        if (Gdx.app.getApplicationListener() instanceof HitRaiderGame) {
+            return ((HitRaiderGame) Gdx.app.getApplicationListener()).diagnostics();
+        }
+        return null;
     }
 
-    private String ammoLabel() {
-        if (currentWeapon != WeaponType.BOLTER) return "Ammo: --/--";
-        String line = "Ammo: " + ammoInMag + "/" + ammoReserve;
-        if (reloading) line += String.format("  (Reloading %.1fs)", reloadTimer);
-        return line;
+    /** Saves the current recording (if any) to local replays/ (never crashes the game). */
+    private void stopRecording() {
+        InputRecorder recorder = runtime.getRecorder();
+        if (recorder == null) return;
+        runtime.setRecorder(null);
+
+        InputLog log = recorder.finish(buildSnapshotString("end"));
+        FileHandle file = Gdx.files.local("replays/run-" + log.seed + "-" + System.currentTimeMillis() + ".hril");
+        try (OutputStream out = file.write(false)) {
+            log.write(out);
+            Gdx.app.log("REPLAY", "Saved " + file.path() + " ticks=" + log.ticks() + " runs=" + log.runCount());
+        } catch (Exception e) {
+            Gdx.app.error("REPLAY", "Could not save " + file.path(), e);
+        }
     }
 
-    private String weaponName(WeaponType t) {
-        return switch (t) {
-            case THUNDER_HAMMER -> "Thunder Hammer";
-            case BOLTER -> "Bolter";
-        };
+    /**
+     * Render side of the room prefetch: the next room's enemy animations
+     * start streaming now, so its first attacks don't fall back to idle while they upload.
+     * Parallax layers need nothing: every background is part of the startup assets.
+     */
+    private void prefetchNextRoom() {
+        RoomInstance next = ctx.run.run.peekNext();
+        if (next != null) ctx.sprites.prefetchEnemies(next.meleeCount > 0, next.rangedCount > 0);
     }
 
     private void rebuildBackground() {
         int roomIndex = ctx.run.run.index;
+        String theme = ctx.run.runRooms != null && roomIndex < ctx.run.runRooms.size
+            ? ctx.run.runRooms.get(roomIndex).template.theme : "auto";
         Texture base, mid;
 
-        if (roomIndex == 0) {
+        // Template theme; "auto" = forest for the first room, castle after
+        boolean forest = "forest".equals(theme) || (!"castle".equals(theme) && roomIndex == 0);
+        if (forest) {
             base = ctx.sprites.forestBase();
             mid = ctx.sprites.forestMid();
         } else {
@@ -287,19 +329,7 @@ public class GameplayScreen implements Screen {
 
     private String buildSnapshotString(String phase) {
         try {
-            RoomInstance r = ctx.run.run.current();
-            return "phase=" + phase +
-                " seed=" + ctx.run.run.seed +
-                " room=" + (ctx.run.run.index + 1) + "/" + ctx.run.run.totalRooms +
-                " type=" + r.type +
-                " tpl=" + r.template.id +
-                " hp=" + ctx.run.player.getHealth().getHp() + "/" + ctx.run.player.getHealth().getMaxHp() +
-                " pState=" + ctx.run.player.getState() +
-                " melee=" + ctx.run.meleeEnemies.size +
-                " ranged=" + ctx.run.rangedEnemies.size +
-                " proj=" + ctx.run.projectiles.projectiles.size +
-                " pickups=" + ctx.run.pickups.size +
-                " doorClosed=" + ctx.doorClosed;
+            return ctx.snapshot(phase).toString();
         } catch (Throwable t) {
             return "phase=" + phase + " (snapshot failed: " + t.getMessage() + ")";
         }
@@ -312,14 +342,28 @@ public class GameplayScreen implements Screen {
 
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
+    /** Leaving gameplay (menu / win screen) always ends the run: a GameplayScreen is never shown again. */
+    @Override
+    public void hide() {
+        if (Gdx.input.getInputProcessor() == inputProvider) Gdx.input.setInputProcessor(null);
+        dispose();
+    }
 
     @Override
     public void dispose() {
-        ctx.sprites.dispose();
+        if (disposed) return; // hide() + app exit
+        disposed = true;
+        stopRecording();
+        if (Gdx.app.getApplicationListener() instanceof HitRaiderGame) {
+            ErrorGuard guard = ((HitRaiderGame) Gdx.app.getApplicationListener()).errorGuard();
+            if (guard != null && guard.getFlightRecorder() == ctx.flight) guard.setFlightRecorder(null);
+        }
+        if (glProfiler != null) glProfiler.disable();
         shapes.dispose();
         batch.dispose();
         font.dispose();
+        if (ctx.run.combat != null) ctx.run.combat.dispose();
         if (ctx.run.physics != null) ctx.run.physics.dispose();
+        runtime.dispose();
     }
 }
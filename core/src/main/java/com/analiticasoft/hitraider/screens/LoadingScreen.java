@@ -0,0 +1,105 @@
+package com.analiticasoft.hitraider.screens;
+
+import com.analiticasoft.hitraider.assets.SpriteManager;
+import com.analiticasoft.hitraider.config.GameConfig;
+import com.analiticasoft.hitraider.game.HitRaiderGame;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Between MenuScreen and GameplayScreen: streams sprites in without freezing the window.
+ * Decoding runs on the AssetManager worker; GL uploads get at most UPLOAD_BUDGET_MS per frame.
+ */
+public class LoadingScreen implements Screen {
+
+    private static final int UPLOAD_BUDGET_MS = 8;
+
+    private final HitRaiderGame game;
+    private final SpriteManager sprites;
+
+    private OrthographicCamera camera;
+    private ShapeRenderer shapes;
+    private SpriteBatch batch;
+    private BitmapFont font;
+
+    private long startMs;
+    private boolean done = false;
+
+    public LoadingScreen(HitRaiderGame game) {
+        this.game = game;
+        this.sprites = game.sprites();
+    }
+
+    @Override
+    public void show() {
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, GameConfig.VIRTUAL_W, GameConfig.VIRTUAL_H);
+        camera.update();
+
+        shapes = new ShapeRenderer();
+        batch = new SpriteBatch();
+        font = new BitmapFont();
+
+        Gdx.input.setInputProcessor(null);
+
+        startMs = TimeUtils.millis();
+        sprites.queueLoad();
+    }
+
+    @Override
+    public void render(float delta) {
+        if (done) return;
+
+        if (sprites.update(UPLOAD_BUDGET_MS)) {
+            done = true;
+            Gdx.app.log("LOAD", "Sprites ready in " + TimeUtils.timeSinceMillis(startMs) + " ms");
+            game.setScreen(new GameplayScreen(sprites));
+            dispose();
+            return;
+        }
+
+        float progress = sprites.progress();
+
+        Gdx.gl.glClearColor(0.05f, 0.05f, 0.06f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float barW = 320f;
+        float barH = 10f;
+        float x = (GameConfig.VIRTUAL_W - barW) / 2f;
+        float y = GameConfig.VIRTUAL_H / 2f - barH / 2f;
+
+        shapes.setProjectionMatrix(camera.combined);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0.12f, 0.12f, 0.14f, 1f);
+        shapes.rect(x, y, barW, barH);
+        shapes.setColor(0.80f, 0.40f, 0.10f, 1f);
+        shapes.rect(x, y, barW * progress, barH);
+        shapes.end();
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        font.draw(batch, "Cargando... " + (int) (progress * 100f) + "%", x, y + barH + 24f);
+        batch.end();
+    }
+
+    @Override public void resize(int width, int height) {}
+    @Override public void pause() {}
+    @Override public void resume() {}
+    @Override public void hide() {}
+
+    @Override
+    public void dispose() {
+        if (shapes != null) shapes.dispose();
+        if (batch != null) batch.dispose();
+        if (font != null) font.dispose();
+        shapes = null;
+        batch = null;
+        font = null;
+    }
+}
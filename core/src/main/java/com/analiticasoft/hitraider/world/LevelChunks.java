@@ -0,0 +1,252 @@
+package com.analiticasoft.hitraider.world;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * LevelChunks: room geometry split into fixed-width columns (chunks) along x, streamed into the Box2D world.
+ * - Each PlatformRect belongs to every chunk it overlaps; its static body exists while any of them is active
+ * - Bodies are created when their first chunk activates and destroyed when the last one goes (Box2D walks every body,
+ *   active or not, each step: only destroying keeps a long room as cheap as a short one)
+ * - Each sim step the caller touch()es what needs ground (player view, enemies, live projectiles, pickups);
+ *   apply() activates those chunks (+1 each side) and drops chunks untouched for KEEP_STEPS.
+ *   Work is O(touched + active chunks), never O(room length)
+ * - apply() runs between physics steps (world unlocked) and only drops geometry no dynamic body is near,
+ *   so it destroys bodies directly instead of going through PhysicsDestroyQueue
+ * - Driven from sim positions only (not the render camera): same seed + input -> same bodies, replays stay exact
+ * - Rendering culls by chunk (collectVisible), each rect once even when it spans several chunks
+ * - Solid rects wider than a chunk (the main floor) are cut into one piece per chunk, each a Box2D edge along the top
+ *   with ghost vertices on its neighbours: no seams to snag on, and the floor streams like everything else
+ */
+public final class LevelChunks {
+
+    public static final float DEFAULT_CHUNK_W_PX = 512f;
+    public static final int KEEP_STEPS = 60; // hysteresis: a chunk stays 1s after its last touch
+
+    private static final int FLOOR_PIECE = 1;
+    private static final int GHOST_PREV = 2;
+    private static final int GHOST_NEXT = 4;
+
+    private final World world;
+    private final float chunkW;
+    private final float originX;
+    private final int chunkCount;
+
+    public final Array<LevelFactory.PlatformRect> rects; // as given (room template); identity = same geometry
+
+    // Per part: rects as given, long solid rects replaced by their per-chunk floor pieces
+    private final Array<LevelFactory.PlatformRect> parts = new Array<>();
+    private final IntArray floorFlags = new IntArray(); // 0 = box, else FLOOR_PIECE | ghost bits
+    private final Body[] bodies;       // null while no active chunk holds it
+    private final int[] activeRefs;    // active chunks holding it
+    private final int[] drawStamp;
+
+    // Per chunk
+    private final IntArray[] chunkRects;
+    private final int[] touchedUntil;  // step index; chunk wanted while step <= touchedUntil
+    private final boolean[] active;
+    private final boolean[] pending;
+    private final IntArray pendingChunks = new IntArray();
+    private final IntArray activeList = new IntArray();
+
+    private int step = 0;
+    private int drawFrame = 0;
+
+    // Stats
+    private int liveBodies = 0;
+    private long createdBodies = 0L;
+
+    public LevelChunks(World world, Array<LevelFactory.PlatformRect> rects) {
+        this(world, rects, DEFAULT_CHUNK_W_PX);
+    }
+
+    public LevelChunks(World world, Array<LevelFactory.PlatformRect> rects, float chunkWpx) {
+        this.world = world;
+        this.rects = rects;
+        this.chunkW = chunkWpx;
+
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE;
+        for (LevelFactory.PlatformRect r : rects) {
+            minX = Math.min(minX, r.cx - r.w / 2f);
+            maxX = Math.max(maxX, r.cx + r.w / 2f);
+        }
+        if (rects.size == 0) minX = maxX = 0f;
+
+        originX = minX;
+        chunkCount = Math.max(1, (int) Math.floor((maxX - minX) / chunkW) + 1);
+
+        chunkRects = new IntArray[chunkCount];
+        for (int c = 0; c < chunkCount; c++) chunkRects[c] = new IntArray(4);
+        touchedUntil = new int[chunkCount];
+        Arrays.fill(touchedUntil, -1);
+        active = new boolean[chunkCount];
+        pending = new boolean[chunkCount];
+
+        for (LevelFactory.PlatformRect r : rects) {
+            float x0 = r.cx - r.w / 2f, x1 = r.cx + r.w / 2f;
+            int c0 = chunkOf(x0), c1 = chunkOf(x1);
+
+            if (r.w > chunkW && !"oneway".equals(r.type)) {
+                addFloorPieces(r, x0, x1, c0, c1);
+                continue;
+            }
+            for (int c = c0; c <= c1; c++) chunkRects[c].add(parts.size);
+            parts.add(r);
+            floorFlags.add(0);
+        }
+
+        bodies = new Body[parts.size];
+        activeRefs = new int[parts.size];
+        drawStamp = new int[parts.size];
+    }
+
+    /** One piece per chunk the rect crosses, each owned by that chunk alone. */
+    private void addFloorPieces(LevelFactory.PlatformRect r, float x0, float x1, int c0, int c1) {
+        int first = parts.size;
+        for (int c = c0; c <= c1; c++) {
+            float a = Math.max(x0, originX + c * chunkW);
+            float b = c == c1 ? x1 : Math.min(x1, originX + (c + 1) * chunkW);
+            if (b - a <= 0f) continue;
+
+            chunkRects[c].add(parts.size);
+            parts.add(new LevelFactory.PlatformRect((a + b) / 2f, r.cy, b - a, r.h, r.type));
+            floorFlags.add(FLOOR_PIECE);
+        }
+        int last = parts.size - 1;
+        for (int i = first; i <= last; i++) {
+            int flags = FLOOR_PIECE;
+            if (i > first) flags |= GHOST_PREV;
+            if (i < last) flags |= GHOST_NEXT;
+            floorFlags.set(i, flags);
+        }
+    }
+
+    /** Chunk index for x (clamped: the first/last chunk covers everything beyond the geometry). */
+    public int chunkOf(float xPx) {
+        int c = (int) Math.floor((xPx - originX) / chunkW);
+        return c < 0 ? 0 : Math.min(c, chunkCount - 1);
+    }
+
+    // -------------------------
+    // Streaming (sim thread, once per step)
+    // -------------------------
+
+    /** Something at x needs ground this step (its chunk and both neighbours). */
+    public void touch(float xPx) {
+        int c = chunkOf(xPx);
+        touchChunks(c - 1, c + 1);
+    }
+
+    public void touchRange(float minXpx, float maxXpx) {
+        touchChunks(chunkOf(minXpx) - 1, chunkOf(maxXpx) + 1);
+    }
+
+    private void touchChunks(int c0, int c1) {
+        int until = step + KEEP_STEPS;
+        for (int c = Math.max(0, c0); c <= Math.min(chunkCount - 1, c1); c++) {
+            touchedUntil[c] = until;
+            if (!active[c] && !pending[c]) {
+                pending[c] = true;
+                pendingChunks.add(c);
+            }
+        }
+    }
+
+    /** Applies this step's touches (call before the physics step), then starts the next step. */
+    public void apply() {
+        for (int k = 0; k < pendingChunks.size; k++) {
+            int c = pendingChunks.get(k);
+            pending[c] = false;
+            active[c] = true;
+            activeList.add(c);
+
+            IntArray ids = chunkRects[c];
+            for (int j = 0; j < ids.size; j++) {
+                int i = ids.get(j);
+                if (activeRefs[i]++ == 0) createBody(i);
+            }
+        }
+        pendingChunks.clear();
+
+        for (int k = activeList.size - 1; k >= 0; k--) {
+            int c = activeList.get(k);
+            if (touchedUntil[c] >= step) continue;
+
+            active[c] = false;
+            activeList.removeIndex(k);
+
+            IntArray ids = chunkRects[c];
+            for (int j = 0; j < ids.size; j++) {
+                int i = ids.get(j);
+                if (--activeRefs[i] == 0) destroyBody(i);
+            }
+        }
+        step++;
+    }
+
+    private void createBody(int i) {
+        int flags = floorFlags.get(i);
+        LevelFactory.PlatformRect r = parts.get(i);
+        if (flags == 0) {
+            bodies[i] = LevelFactory.createPlatform(world, r);
+        } else {
+            LevelFactory.PlatformRect prev = (flags & GHOST_PREV) != 0 ? parts.get(i - 1) : null;
+            LevelFactory.PlatformRect next = (flags & GHOST_NEXT) != 0 ? parts.get(i + 1) : null;
+            bodies[i] = LevelFactory.createFloorPiece(world, r, prev, next);
+        }
+        liveBodies++;
+        createdBodies++;
+    }
+
+    private void destroyBody(int i) {
+        Body b = bodies[i];
+        bodies[i] = null;
+        if (b != null && b.getWorld() == world) world.destroyBody(b);
+        liveBodies--;
+    }
+
+    /** Destroys every live body (room change; world unlocked). */
+    public void dispose() {
+        for (int i = 0; i < bodies.length; i++) {
+            if (bodies[i] != null) destroyBody(i);
+        }
+        Arrays.fill(activeRefs, 0);
+        Arrays.fill(active, false);
+        Arrays.fill(pending, false);
+        pendingChunks.clear();
+        activeList.clear();
+    }
+
+    // -------------------------
+    // Rendering
+    // -------------------------
+
+    /** Rects in chunks overlapping [minX, maxX], each once (floor pieces instead of the whole floor; clears out first). */
+    public Array<LevelFactory.PlatformRect> collectVisible(float minXpx, float maxXpx, Array<LevelFactory.PlatformRect> out) {
+        out.clear();
+        int frame = ++drawFrame;
+        for (int c = chunkOf(minXpx); c <= chunkOf(maxXpx); c++) {
+            IntArray ids = chunkRects[c];
+            for (int k = 0; k < ids.size; k++) {
+                int i = ids.get(k);
+                if (drawStamp[i] == frame) continue;
+                drawStamp[i] = frame;
+                out.add(parts.get(i));
+            }
+        }
+        return out;
+    }
+
+    // -------------------------
+    // Stats
+    // -------------------------
+
+    public int chunkCount() { return chunkCount; }
+    public int activeChunks() { return activeList.size; }
+    public int liveBodies() { return liveBodies; }
+    public long createdBodies() { return createdBodies; }
+}
@@ -1,6 +1,7 @@
 package com.analiticasoft.hitraider.world;
 
 import com.analiticasoft.hitraider.physics.CollisionBits;
+import com.analiticasoft.hitraider.physics.FixtureTag;
 import com.analiticasoft.hitraider.physics.PhysicsConstants;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
@@ -15,49 +16,60 @@ public class LevelFactory {
         }
     }
 
-    public static Array<PlatformRect> createTestLevel(World world) {
-        Array<PlatformRect> rects = new Array<>();
-
-        // Main floor
-        createStaticBox(world, 0f, 48f, 20000f, 16f, "ground");
-        rects.add(new PlatformRect(0f, 48f, 20000f, 16f, "ground"));
-
-        // Platform sections
-        // Section 1
-        createStaticBox(world, 220f, 120f, 180f, 16f, "ground");
-        rects.add(new PlatformRect(220f, 120f, 180f, 16f, "ground"));
-
-        createStaticBox(world, 520f, 170f, 140f, 16f, "ground");
-        rects.add(new PlatformRect(520f, 170f, 140f, 16f, "ground"));
+    /** Every rect straight into the world, no streaming (benchmarks / tools; gameplay goes through LevelChunks). */
+    public static void createAll(World world, Array<PlatformRect> rects) {
+        for (PlatformRect r : rects) createPlatform(world, r);
+    }
 
-        // Oneway platform
-        createStaticBox(world, 650f, 230f, 220f, 12f, "oneway");
-        rects.add(new PlatformRect(650f, 230f, 220f, 12f, "oneway"));
+    /** Static body for one rect ("oneway" -> ONE_WAY fixture, anything else GROUND). */
+    public static Body createPlatform(World world, PlatformRect r) {
+        FixtureTag tag = "oneway".equals(r.type) ? FixtureTag.ONE_WAY : FixtureTag.GROUND;
+        return createStaticBox(world, r.cx, r.cy, r.w, r.h, tag);
+    }
 
-        // Section 2
-        createStaticBox(world, 820f, 140f, 220f, 16f, "ground");
-        rects.add(new PlatformRect(820f, 140f, 220f, 16f, "ground"));
+    /**
+     * One chunk's piece of a long floor (LevelChunks): an edge along its top surface, with ghost vertices on the
+     * neighbouring pieces (null = floor ends here) so bodies slide across piece borders as on one surface.
+     */
+    public static Body createFloorPiece(World world, PlatformRect piece, PlatformRect prev, PlatformRect next) {
+        float top = PhysicsConstants.toMeters(piece.cy + piece.h / 2f);
 
-        createStaticBox(world, 1100f, 180f, 200f, 16f, "ground");
-        rects.add(new PlatformRect(1100f, 180f, 200f, 16f, "ground"));
+        BodyDef bd = new BodyDef();
+        bd.type = BodyDef.BodyType.StaticBody;
+        Body body = world.createBody(bd);
 
-        createStaticBox(world, 1400f, 130f, 250f, 16f, "ground");
-        rects.add(new PlatformRect(1400f, 130f, 250f, 16f, "ground"));
+        EdgeShape shape = new EdgeShape();
+        shape.set(
+            PhysicsConstants.toMeters(piece.cx - piece.w / 2f), top,
+            PhysicsConstants.toMeters(piece.cx + piece.w / 2f), top
+        );
+        if (prev != null) {
+            shape.setVertex0(PhysicsConstants.toMeters(prev.cx - prev.w / 2f), top);
+            shape.setHasVertex0(true);
+        }
+        if (next != null) {
+            shape.setVertex3(PhysicsConstants.toMeters(next.cx + next.w / 2f), top);
+            shape.setHasVertex3(true);
+        }
 
-        createStaticBox(world, 1700f, 190f, 200f, 16f, "oneway");
-        rects.add(new PlatformRect(1700f, 190f, 200f, 16f, "oneway"));
+        FixtureDef fd = new FixtureDef();
+        fd.shape = shape;
+        fd.friction = 0.9f;
+        fd.restitution = 0f;
+        fd.filter.categoryBits = CollisionBits.WORLD;
+        fd.filter.maskBits = CollisionBits.MASK_WORLD_SOLID;
 
-        // End wall (far away now)
-        createStaticBox(world, 2000f, 120f, 16f, 400f, "ground");
-        rects.add(new PlatformRect(2000f, 120f, 16f, 400f, "ground"));
+        Fixture f = body.createFixture(fd);
+        f.setUserData(FixtureTag.GROUND);
 
-        return rects;
+        shape.dispose();
+        return body;
     }
 
     private static Body createStaticBox(World world,
                                         float centerXpx, float centerYpx,
                                         float widthPx, float heightPx,
-                                        String userData) {
+                                        FixtureTag tag) {
 
         float cx = PhysicsConstants.toMeters(centerXpx);
         float cy = PhysicsConstants.toMeters(centerYpx);
@@ -84,7 +96,7 @@ public class LevelFactory {
         fd.filter.maskBits = CollisionBits.MASK_WORLD_SOLID;
 
         Fixture f = body.createFixture(fd);
-        f.setUserData(userData);
+        f.setUserData(tag);
 
         shape.dispose();
         return body;
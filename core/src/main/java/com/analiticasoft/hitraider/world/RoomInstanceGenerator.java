@@ -46,7 +46,8 @@ public class RoomInstanceGenerator {
                 // copy spawns then shuffle
                 Array<Vector2> tmp = new Array<>(tpl.spawns.size);
                 for (Vector2 v : tpl.spawns) tmp.add(new Vector2(v));
-                tmp.shuffle(); // uses MathUtils; but Array.shuffle is deterministic per JVM (good enough for now)
+                // Fisher-Yates on the run rng (Array.shuffle uses the unseeded MathUtils.random)
+                for (int j = tmp.size - 1; j > 0; j--) tmp.swap(j, rng.nextInt(j + 1));
                 for (Vector2 v : tmp) room.spawnOrder.add(v);
             }
 
@@ -3,6 +3,10 @@ package com.analiticasoft.hitraider.world;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
+/**
+ * Room layout as loaded from assets/rooms (RoomTemplateRegistry): entry/exit, spawn points, geometry, background theme.
+ * theme: "forest" / "castle", anything else ("auto") = forest for the first room of a run, castle after.
+ */
 public class RoomTemplate {
 
     public final String id;
@@ -10,7 +14,10 @@ public class RoomTemplate {
     public final float entryYpx;
     public final float exitXpx;
 
+    public String theme = "auto";
+
     public final Array<Vector2> spawns = new Array<>();
+    public final Array<LevelFactory.PlatformRect> platforms = new Array<>();
 
     public RoomTemplate(String id, float entryXpx, float entryYpx, float exitXpx) {
         this.id = id;
@@ -23,4 +30,9 @@ public class RoomTemplate {
         spawns.add(new Vector2(xPx, yPx));
         return this;
     }
+
+    public RoomTemplate addPlatform(float cxPx, float cyPx, float wPx, float hPx, boolean oneWay) {
+        platforms.add(new LevelFactory.PlatformRect(cxPx, cyPx, wPx, hPx, oneWay ? "oneway" : "ground"));
+        return this;
+    }
 }
@@ -0,0 +1,129 @@
+package com.analiticasoft.hitraider.world;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * RoomTemplateCodec: room template data files (assets/rooms/*.json) and their compiled form (rooms.bin).
+ *
+ * JSON (one template per file, px):
+ * - id, theme, entry {x, y}, exitX
+ * - spawns [[x, y], ...]
+ * - platforms [{x, y, w, h, oneway}, ...]   (x/y = center, oneway defaults to false)
+ *
+ * Binary format (big endian, DataOutputStream), written by RoomTemplateCompiler at build time:
+ * - int   MAGIC "HRRT", short VERSION, int templateCount
+ * - per template: UTF id, UTF theme, float entryX, entryY, exitX
+ *   short spawnCount, spawns (float x, y) | short platformCount, platforms (float cx, cy, w, h, byte flags: 1 = one-way)
+ *
+ * Reading the binary is a straight field-by-field pass: no JSON DOM, no reflection.
+ */
+public final class RoomTemplateCodec {
+
+    public static final int MAGIC = 0x48525254; // "HRRT"
+    public static final short VERSION = 1;
+
+    private static final int FLAG_ONE_WAY = 1;
+
+    private RoomTemplateCodec() {}
+
+    // -------------------------
+    // JSON (compiler + dev fallback)
+    // -------------------------
+
+    public static RoomTemplate fromJson(JsonValue json) {
+        JsonValue entry = json.get("entry");
+        if (entry == null) throw new IllegalArgumentException("room template without entry: " + json.getString("id", "?"));
+
+        RoomTemplate t = new RoomTemplate(
+            json.getString("id"),
+            entry.getFloat("x"), entry.getFloat("y"),
+            json.getFloat("exitX")
+        );
+        t.theme = json.getString("theme", "auto");
+
+        JsonValue spawns = json.get("spawns");
+        if (spawns != null) {
+            for (JsonValue s = spawns.child; s != null; s = s.next) t.addSpawn(s.getFloat(0), s.getFloat(1));
+        }
+
+        JsonValue platforms = json.get("platforms");
+        if (platforms != null) {
+            for (JsonValue p = platforms.child; p != null; p = p.next) {
+                t.addPlatform(p.getFloat("x"), p.getFloat("y"), p.getFloat("w"), p.getFloat("h"), p.getBoolean("oneway", false));
+            }
+        }
+        return t;
+    }
+
+    // -------------------------
+    // Binary
+    // -------------------------
+
+    public static void write(Array<RoomTemplate> templates, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(templates.size);
+
+        for (RoomTemplate t : templates) {
+            data.writeUTF(t.id);
+            data.writeUTF(t.theme != null ? t.theme : "auto");
+            data.writeFloat(t.entryXpx);
+            data.writeFloat(t.entryYpx);
+            data.writeFloat(t.exitXpx);
+
+            data.writeShort(t.spawns.size);
+            for (int i = 0; i < t.spawns.size; i++) {
+                data.writeFloat(t.spawns.get(i).x);
+                data.writeFloat(t.spawns.get(i).y);
+            }
+
+            data.writeShort(t.platforms.size);
+            for (int i = 0; i < t.platforms.size; i++) {
+                LevelFactory.PlatformRect r = t.platforms.get(i);
+                data.writeFloat(r.cx);
+                data.writeFloat(r.cy);
+                data.writeFloat(r.w);
+                data.writeFloat(r.h);
+                data.writeByte("oneway".equals(r.type) ? FLAG_ONE_WAY : 0);
+            }
+        }
+        data.flush();
+    }
+
+    public static Array<RoomTemplate> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) throw new IOException("Not a room template file (bad magic)");
+        short version = data.readShort();
+        if (version != VERSION) throw new IOException("Unsupported room template version: " + version);
+
+        int count = data.readInt();
+        Array<RoomTemplate> out = new Array<>(count);
+        for (int n = 0; n < count; n++) {
+            String id = data.readUTF();
+            String theme = data.readUTF();
+            RoomTemplate t = new RoomTemplate(id, data.readFloat(), data.readFloat(), data.readFloat());
+            t.theme = theme;
+
+            int spawns = data.readUnsignedShort();
+            t.spawns.ensureCapacity(spawns);
+            for (int i = 0; i < spawns; i++) t.addSpawn(data.readFloat(), data.readFloat());
+
+            int platforms = data.readUnsignedShort();
+            t.platforms.ensureCapacity(platforms);
+            for (int i = 0; i < platforms; i++) {
+                float cx = data.readFloat(), cy = data.readFloat(), w = data.readFloat(), h = data.readFloat();
+                t.addPlatform(cx, cy, w, h, (data.readByte() & FLAG_ONE_WAY) != 0);
+            }
+            out.add(t);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,36 @@
+package com.analiticasoft.hitraider.world;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+/**
+ * Build-time tool (core/build.gradle: compileRooms): assets/rooms/*.json -> rooms.bin (RoomTemplateCodec).
+ * Templates are ordered by file name, same as the JSON fallback of RoomTemplateRegistry (run generation indexes them).
+ * Usage: RoomTemplateCompiler <roomsDir> <out.bin>
+ */
+public final class RoomTemplateCompiler {
+
+    private RoomTemplateCompiler() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: RoomTemplateCompiler <roomsDir> <out.bin>");
+            System.exit(2);
+        }
+
+        Array<RoomTemplate> templates = RoomTemplateRegistry.parseJsonDir(new FileHandle(new File(args[0])));
+        if (templates.size == 0) throw new IOException("no room templates in " + args[0]);
+
+        File out = new File(args[1]);
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(out.toPath()))) {
+            RoomTemplateCodec.write(templates, os);
+        }
+        System.out.println("[ROOMS] compiled " + templates.size + " templates -> " + out.getPath() + " (" + out.length() + " bytes)");
+    }
+}
@@ -1,9 +1,24 @@
 package com.analiticasoft.hitraider.world;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
 
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Room templates of the game, loaded from assets/rooms.
+ * - rooms.bin (RoomTemplateCompiler output) is the normal path: one binary read, no JSON parsing
+ * - No rooms.bin, or a *.json newer than it (editing without rebuilding): parses the JSON files instead, by file name
+ */
 public class RoomTemplateRegistry {
 
+    public static final String ROOMS_DIR = "rooms";
+    public static final String COMPILED_FILE = "rooms.bin";
+
     private final Array<RoomTemplate> templates = new Array<>();
 
     public void clear() { templates.clear(); }
@@ -15,4 +30,61 @@ public class RoomTemplateRegistry {
     public RoomTemplate get(int idx) { return templates.get(idx); }
 
     public Array<RoomTemplate> all() { return templates; }
+
+    public RoomTemplate byId(String id) {
+        for (RoomTemplate t : templates) if (t.id.equals(id)) return t;
+        return null;
+    }
+
+    /** Replaces the templates with the ones in dir (compiled if up to date, else JSON). Throws if none load. */
+    public void loadFrom(FileHandle dir) {
+        templates.clear();
+
+        FileHandle bin = dir.child(COMPILED_FILE);
+        if (bin.exists() && !jsonNewerThan(dir, bin)) {
+            try (InputStream in = bin.read(8192)) {
+                templates.addAll(RoomTemplateCodec.read(in));
+            } catch (Throwable t) {
+                log("Failed to read " + bin.path() + " (" + t.getMessage() + "), parsing JSON");
+                templates.clear();
+            }
+        } else {
+            log(bin.exists() ? COMPILED_FILE + " is stale, parsing JSON (run :core:compileRooms)"
+                             : COMPILED_FILE + " missing, parsing JSON (run :core:compileRooms)");
+        }
+
+        if (templates.size == 0) templates.addAll(parseJsonDir(dir));
+        if (templates.size == 0) throw new GdxRuntimeException("No room templates in " + dir.path());
+    }
+
+    /** Every *.json template in dir, ordered by file name. */
+    public static Array<RoomTemplate> parseJsonDir(FileHandle dir) {
+        FileHandle[] files = dir.list(".json");
+        Arrays.sort(files, (a, b) -> a.name().compareTo(b.name()));
+
+        JsonReader reader = new JsonReader();
+        Array<RoomTemplate> out = new Array<>(files.length);
+        for (FileHandle f : files) {
+            try {
+                out.add(RoomTemplateCodec.fromJson(reader.parse(f)));
+            } catch (Throwable t) {
+                throw new GdxRuntimeException("Bad room template " + f.path() + ": " + t.getMessage(), t);
+            }
+        }
+        return out;
+    }
+
+    private static boolean jsonNewerThan(FileHandle dir, FileHandle bin) {
+        long binTime = bin.lastModified();
+        if (binTime == 0L) return false; // internal/classpath files: no timestamps, trust the build
+        for (FileHandle f : dir.list(".json")) {
+            if (f.lastModified() > binTime) return true;
+        }
+        return false;
+    }
+
+    private static void log(String msg) {
+        if (Gdx.app != null) Gdx.app.log("ROOMS", msg);
+        else System.out.println("[ROOMS] " + msg);
+    }
 }
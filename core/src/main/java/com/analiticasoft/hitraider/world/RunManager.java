@@ -22,6 +22,11 @@ public class RunManager {
         return rooms.get(index);
     }
 
+    /** Room after the current one (null = last). */
+    public RoomInstance peekNext() {
+        return hasNext() ? rooms.get(index + 1) : null;
+    }
+
     public boolean hasNext() {
         return rooms != null && index + 1 < rooms.size;
     }
@@ -0,0 +1,233 @@
+package com.analiticasoft.hitraider.world;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * SpatialHash: uniform grid (px) over point entries, for AI neighbour queries and area effects.
+ * - Entries are int handles (flat primitive arrays, free list): insert on spawn, update(h, x, y) every tick, remove on despawn
+ * - update() only relinks when the entry changes cell, so a tick where most enemies stay put costs a few compares each
+ * - Cells are hashed into a fixed bucket table (any room size); the cell coords stored per entry filter bucket collisions
+ * - queryRadius / queryAabb append to a caller-owned IntArray / Array: no allocation once those have grown
+ * Threading: insert / update / remove only on the sim thread. Queries only read shared state (results go to the
+ * caller's collections), so several threads may query at once while no thread inserts, updates or removes;
+ * EnemyAiPhase relies on this (worker queries while ParallelFor.run blocks the sim thread).
+ */
+public final class SpatialHash<T> {
+
+    public static final float DEFAULT_CELL_PX = 64f;
+
+    private static final int NONE = -1;
+
+    private final float cellSize;
+    private final float invCell;
+
+    private final int[] buckets;
+    private final int bucketMask;
+
+    // Per handle, interleaved so a candidate check touches one or two cache lines:
+    // pos[h*2] = x, pos[h*2+1] = y | links[h*4] = cellX, +1 cellY, +2 next, +3 prev (next doubles as free list link)
+    private Object[] items;
+    private float[] pos;
+    private int[] links;
+
+    private int top = 0;        // handles ever used (high-water mark)
+    private int freeHead = NONE;
+    private int size = 0;
+
+    public SpatialHash() {
+        this(DEFAULT_CELL_PX, 1024, 64);
+    }
+
+    /** bucketCount is rounded up to a power of two; initialCapacity grows on demand. */
+    public SpatialHash(float cellSizePx, int bucketCount, int initialCapacity) {
+        this.cellSize = cellSizePx;
+        this.invCell = 1f / cellSizePx;
+
+        int b = 16;
+        while (b < bucketCount) b <<= 1;
+        buckets = new int[b];
+        bucketMask = b - 1;
+        Arrays.fill(buckets, NONE);
+
+        allocate(Math.max(8, initialCapacity));
+    }
+
+    private void allocate(int cap) {
+        items = items == null ? new Object[cap] : Arrays.copyOf(items, cap);
+        pos = pos == null ? new float[cap * 2] : Arrays.copyOf(pos, cap * 2);
+        links = links == null ? new int[cap * 4] : Arrays.copyOf(links, cap * 4);
+    }
+
+    // -------------------------
+    // Maintenance
+    // -------------------------
+
+    /** Returns the handle (stable until remove). */
+    public int insert(T item, float xPx, float yPx) {
+        if (item == null) throw new IllegalArgumentException("null item");
+
+        int h;
+        if (freeHead != NONE) {
+            h = freeHead;
+            freeHead = links[h * 4 + 2];
+        } else {
+            if (top == items.length) allocate(items.length * 2);
+            h = top++;
+        }
+
+        items[h] = item;
+        pos[h * 2] = xPx;
+        pos[h * 2 + 1] = yPx;
+        links[h * 4] = cell(xPx);
+        links[h * 4 + 1] = cell(yPx);
+        link(h);
+        size++;
+        return h;
+    }
+
+    /** New position for h; relinks only if the cell changed. */
+    public void update(int h, float xPx, float yPx) {
+        pos[h * 2] = xPx;
+        pos[h * 2 + 1] = yPx;
+
+        int cx = cell(xPx);
+        int cy = cell(yPx);
+        int l = h * 4;
+        if (cx == links[l] && cy == links[l + 1]) return;
+
+        unlink(h);
+        links[l] = cx;
+        links[l + 1] = cy;
+        link(h);
+    }
+
+    public void remove(int h) {
+        if (h < 0 || h >= top || items[h] == null) return;
+        unlink(h);
+        items[h] = null;
+        links[h * 4 + 2] = freeHead;
+        freeHead = h;
+        size--;
+    }
+
+    public void clear() {
+        Arrays.fill(buckets, NONE);
+        Arrays.fill(items, 0, top, null);
+        top = 0;
+        freeHead = NONE;
+        size = 0;
+    }
+
+    private int cell(float px) {
+        return (int) Math.floor(px * invCell);
+    }
+
+    private int bucket(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & bucketMask;
+    }
+
+    private void link(int h) {
+        int l = h * 4;
+        int b = bucket(links[l], links[l + 1]);
+        int head = buckets[b];
+        links[l + 3] = NONE;
+        links[l + 2] = head;
+        if (head != NONE) links[head * 4 + 3] = h;
+        buckets[b] = h;
+    }
+
+    private void unlink(int h) {
+        int l = h * 4;
+        int p = links[l + 3];
+        int n = links[l + 2];
+        if (p != NONE) links[p * 4 + 2] = n;
+        else buckets[bucket(links[l], links[l + 1])] = n;
+        if (n != NONE) links[n * 4 + 3] = p;
+    }
+
+    // -------------------------
+    // Queries (append to out, return how many were added)
+    // -------------------------
+
+    /** Handles whose point lies within radiusPx of (x, y). */
+    public int queryRadius(float xPx, float yPx, float radiusPx, IntArray out) {
+        return query(xPx - radiusPx, yPx - radiusPx, xPx + radiusPx, yPx + radiusPx, xPx, yPx, radiusPx * radiusPx, out, null);
+    }
+
+    public int queryRadius(float xPx, float yPx, float radiusPx, Array<T> out) {
+        return query(xPx - radiusPx, yPx - radiusPx, xPx + radiusPx, yPx + radiusPx, xPx, yPx, radiusPx * radiusPx, null, out);
+    }
+
+    /** Handles whose point lies inside [minX, maxX] x [minY, maxY]. */
+    public int queryAabb(float minX, float minY, float maxX, float maxY, IntArray out) {
+        return query(minX, minY, maxX, maxY, 0f, 0f, -1f, out, null);
+    }
+
+    public int queryAabb(float minX, float minY, float maxX, float maxY, Array<T> out) {
+        return query(minX, minY, maxX, maxY, 0f, 0f, -1f, null, out);
+    }
+
+    private int query(float minX, float minY, float maxX, float maxY,
+                      float cx, float cy, float r2,
+                      IntArray outHandles, Array<T> outItems) {
+        if (size == 0 || maxX < minX || maxY < minY) return 0;
+
+        int cx0 = cell(minX), cx1 = cell(maxX);
+        int cy0 = cell(minY), cy1 = cell(maxY);
+        long cells = (long) (cx1 - cx0 + 1) * (cy1 - cy0 + 1);
+
+        int added = 0;
+
+        // Huge box vs few entries: a straight scan beats walking (mostly empty) cells
+        if (cells > top) {
+            for (int h = 0; h < top; h++) {
+                if (items[h] != null && accept(h, minX, minY, maxX, maxY, cx, cy, r2)) {
+                    emit(h, outHandles, outItems);
+                    added++;
+                }
+            }
+            return added;
+        }
+
+        for (int gy = cy0; gy <= cy1; gy++) {
+            for (int gx = cx0; gx <= cx1; gx++) {
+                for (int h = buckets[bucket(gx, gy)]; h != NONE; h = links[h * 4 + 2]) {
+                    if (links[h * 4] != gx || links[h * 4 + 1] != gy) continue; // another cell sharing the bucket
+                    if (!accept(h, minX, minY, maxX, maxY, cx, cy, r2)) continue;
+                    emit(h, outHandles, outItems);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    private boolean accept(int h, float minX, float minY, float maxX, float maxY, float cx, float cy, float r2) {
+        float x = pos[h * 2], y = pos[h * 2 + 1];
+        if (x < minX || x > maxX || y < minY || y > maxY) return false;
+        if (r2 < 0f) return true;
+        float dx = x - cx, dy = y - cy;
+        return dx * dx + dy * dy <= r2;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emit(int h, IntArray outHandles, Array<T> outItems) {
+        if (outHandles != null) outHandles.add(h);
+        else outItems.add((T) items[h]);
+    }
+
+    // -------------------------
+    // Access
+    // -------------------------
+
+    @SuppressWarnings("unchecked")
+    public T get(int h) { return (T) items[h]; }
+    public float x(int h) { return pos[h * 2]; }
+    public float y(int h) { return pos[h * 2 + 1]; }
+
+    public int size() { return size; }
+    public float cellSize() { return cellSize; }
+}
@@ -0,0 +1,158 @@
+package com.analiticasoft.hitraider.headless;
+
+import com.analiticasoft.hitraider.config.PhysicsTuning;
+import com.analiticasoft.hitraider.input.InputLog;
+import com.analiticasoft.hitraider.input.InputRecorder;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.physics.box2d.Box2D;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Headless batch simulator (no GPU, no window).
+ *
+ * Args:
+ * - --runs N         runs to simulate (default 10), seeds seed..seed+N-1
+ * - --seed S         first seed (default 1)
+ * - --script NAME    idle | runner | mash (default runner)
+ * - --max-seconds T  sim-time cap per run (default 600)
+ * - --quiet          summary only
+ * - --record DIR     also write each run's input log to DIR/run-SEED.hril
+ * - --replay FILE    replay one input log (desktop F10 or --record) instead; exit 1 if the end snapshot differs
+ *
+ * Everything runs inside create(); the headless loop is never used (no real-time pacing).
+ */
+public class HeadlessLauncher {
+
+    private static final String TAG = "SIM";
+
+    public static void main(String[] args) {
+        Options opts = Options.parse(args);
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                boolean ok;
+                try {
+                    ok = opts.replay != null ? replay(opts) : simulate(opts);
+                } catch (Throwable t) {
+                    Gdx.app.error(TAG, "Simulation crashed", t);
+                    ok = false;
+                }
+                if (!ok) System.exit(1);
+                Gdx.app.exit();
+            }
+        }, config);
+    }
+
+    private static boolean simulate(Options opts) throws IOException {
+        Box2D.init();
+
+        File recordDir = opts.record != null ? new File(opts.record) : null;
+        if (recordDir != null && !recordDir.isDirectory() && !recordDir.mkdirs()) {
+            throw new IOException("Cannot create " + recordDir);
+        }
+
+        int maxTicks = Math.round(opts.maxSeconds / PhysicsTuning.SIM_DT);
+        SimRunner runner = new SimRunner(maxTicks);
+
+        long totalTicks = 0;
+        long totalWall = 0;
+        int finished = 0, died = 0, timeouts = 0;
+
+        for (int i = 0; i < opts.runs; i++) {
+            long seed = opts.seed + i;
+            InputRecorder recorder = recordDir != null ? new InputRecorder(seed) : null;
+            SimResult r = runner.run(seed, InputScript.byName(opts.script, seed), recorder);
+            if (recorder != null) writeLog(recorder.finish(r.endSnapshot), new File(recordDir, "run-" + seed + ".hril"));
+
+            totalTicks += r.ticks;
+            totalWall += r.wallNanos;
+            switch (r.outcome) {
+                case FINISHED -> finished++;
+                case DIED -> died++;
+                case TIMEOUT -> timeouts++;
+            }
+
+            if (!opts.quiet) Gdx.app.log(TAG, r.toString());
+        }
+
+        double wallSec = totalWall / 1_000_000_000.0;
+        double simSec = totalTicks * PhysicsTuning.SIM_DT;
+        Gdx.app.log(TAG, String.format(
+            "runs=%d script=%s finished=%d died=%d timeout=%d | ticks=%d sim=%.1fs wall=%.2fs | %.0f ticks/s (%.1fx realtime)",
+            opts.runs, opts.script, finished, died, timeouts,
+            totalTicks, simSec, wallSec,
+            wallSec > 0 ? totalTicks / wallSec : 0.0,
+            wallSec > 0 ? simSec / wallSec : 0.0));
+        return true;
+    }
+
+    private static boolean replay(Options opts) throws IOException {
+        Box2D.init();
+
+        InputLog log;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(opts.replay))) {
+            log = InputLog.read(in);
+        }
+
+        SimResult r = new SimRunner(log.ticks()).replay(log);
+        if (!opts.quiet) Gdx.app.log(TAG, r.toString());
+
+        boolean match = r.ticks == log.ticks() && r.endSnapshot.equals(log.endSnapshot);
+        if (match) {
+            Gdx.app.log(TAG, "REPLAY OK " + opts.replay + " seed=" + log.seed + " ticks=" + log.ticks() + " runs=" + log.runCount());
+        } else {
+            Gdx.app.error(TAG, "REPLAY MISMATCH " + opts.replay + " ticks " + r.ticks + "/" + log.ticks()
+                + "\n  recorded: " + log.endSnapshot
+                + "\n  replayed: " + r.endSnapshot);
+        }
+        return match;
+    }
+
+    private static void writeLog(InputLog log, File file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            log.write(out);
+        }
+    }
+
+    private static final class Options {
+        int runs = 10;
+        long seed = 1L;
+        String script = "runner";
+        float maxSeconds = 600f;
+        boolean quiet = false;
+        String record = null;
+        String replay = null;
+
+        static Options parse(String[] args) {
+            Options o = new Options();
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--runs" -> o.runs = Integer.parseInt(args[++i]);
+                    case "--seed" -> o.seed = Long.parseLong(args[++i]);
+                    case "--script" -> o.script = args[++i];
+                    case "--max-seconds" -> o.maxSeconds = Float.parseFloat(args[++i]);
+                    case "--quiet" -> o.quiet = true;
+                    case "--record" -> o.record = args[++i];
+                    case "--replay" -> o.replay = args[++i];
+                    default -> throw new IllegalArgumentException("Unknown arg: " + args[i]);
+                }
+            }
+            return o;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.analiticasoft.hitraider.headless;
+
+import com.analiticasoft.hitraider.gameplay.GameplayContext;
+import com.analiticasoft.hitraider.input.Action;
+import com.analiticasoft.hitraider.input.InputState;
+
+import java.util.Random;
+
+/**
+ * Scripted input for headless runs: fills InputState once per sim tick (replaces DesktopInputProvider).
+ * Must be deterministic for a given tick/ctx so a seed reproduces the same run.
+ */
+public interface InputScript {
+
+    void apply(int tick, InputState in, GameplayContext ctx);
+
+    /** Stands still (baseline sim cost: AI + physics only). */
+    static InputScript idle() {
+        Action[] all = Action.values();
+        return (tick, in, ctx) -> {
+            in.setMoveX(0f);
+            for (Action a : all) in.setDown(a, false);
+        };
+    }
+
+    /** Chases the nearest enemy (swing when close, shoot on a rhythm), heads right to the exit once the room is clear. */
+    static InputScript runner() {
+        return (tick, in, ctx) -> {
+            float px = ctx.run.player.getXpx();
+            float targetX = Float.MAX_VALUE;
+            float best = Float.MAX_VALUE;
+
+            for (int i = 0; i < ctx.run.enemies.size; i++) {
+                float ex = ctx.run.enemies.x[i];
+                if (Math.abs(ex - px) < best) { best = Math.abs(ex - px); targetX = ex; }
+            }
+
+            boolean chasing = targetX != Float.MAX_VALUE;
+            float dx = chasing ? targetX - px : 1f;
+            boolean close = chasing && Math.abs(dx) < 50f;
+
+            // Inside swing range: tap toward the target only to keep facing it
+            in.setMoveX(close ? (tick % 8 == 0 ? Math.signum(dx) : 0f) : Math.signum(dx));
+            in.setDown(Action.MOVE_UP, false);
+            in.setDown(Action.MOVE_DOWN, false);
+            in.setDown(Action.JUMP, !close && tick % 50 < 10);
+            in.setDown(Action.ATTACK, close && tick % 16 < 2);
+            in.setDown(Action.SHOOT, chasing && tick % 30 < 2);
+            in.setDown(Action.DASH, false);
+            in.setDown(Action.PAUSE, false);
+        };
+    }
+
+    /** Seeded button mashing: holds random actions for random short spans (fuzz/soak). */
+    static InputScript mash(long seed) {
+        Random rng = new Random(seed);
+        Action[] actions = {
+            Action.MOVE_UP, Action.MOVE_DOWN, Action.JUMP, Action.ATTACK, Action.SHOOT, Action.DASH,
+            Action.WEAPON_1, Action.WEAPON_2, Action.RELOAD
+        };
+        int[] holdUntil = new int[actions.length];
+        float[] moveX = { 0f };
+        int[] moveUntil = { 0 };
+
+        return (tick, in, ctx) -> {
+            if (tick >= moveUntil[0]) {
+                moveX[0] = rng.nextInt(3) - 1;
+                moveUntil[0] = tick + 10 + rng.nextInt(60);
+            }
+            in.setMoveX(moveX[0]);
+
+            for (int i = 0; i < actions.length; i++) {
+                if (tick >= holdUntil[i] && rng.nextInt(20) == 0) holdUntil[i] = tick + 1 + rng.nextInt(12);
+                in.setDown(actions[i], tick < holdUntil[i]);
+            }
+            in.setDown(Action.PAUSE, false);
+        };
+    }
+
+    static InputScript byName(String name, long seed) {
+        switch (name) {
+            case "idle": return idle();
+            case "runner": return runner();
+            case "mash": return mash(seed);
+            default: throw new IllegalArgumentException("Unknown script: " + name + " (idle | runner | mash)");
+        }
+    }
+}
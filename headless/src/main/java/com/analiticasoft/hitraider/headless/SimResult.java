@@ -0,0 +1,41 @@
+package com.analiticasoft.hitraider.headless;
+
+/**
+ * Outcome of one headless run (one seed).
+ */
+public final class SimResult {
+
+    public enum Outcome { FINISHED, DIED, TIMEOUT }
+
+    public final long seed;
+    public final Outcome outcome;
+    public final int ticks;
+    public final int roomsReached;
+    public final int totalRooms;
+    public final int playerHp;
+    public final long wallNanos;
+    public final String endSnapshot; // GameSnapshot.toString() at the last tick (replay check)
+
+    public SimResult(long seed, Outcome outcome, int ticks, int roomsReached, int totalRooms, int playerHp, long wallNanos, String endSnapshot) {
+        this.seed = seed;
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.roomsReached = roomsReached;
+        this.totalRooms = totalRooms;
+        this.playerHp = playerHp;
+        this.wallNanos = wallNanos;
+        this.endSnapshot = endSnapshot;
+    }
+
+    public float simSeconds(float simDt) { return ticks * simDt; }
+
+    public double ticksPerSecond() {
+        return wallNanos > 0 ? ticks * 1_000_000_000.0 / wallNanos : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("seed=%d %s ticks=%d rooms=%d/%d hp=%d wall=%.1fms tps=%.0f",
+            seed, outcome, ticks, roomsReached, totalRooms, playerHp, wallNanos / 1_000_000.0, ticksPerSecond());
+    }
+}
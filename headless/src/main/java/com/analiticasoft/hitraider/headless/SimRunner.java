@@ -0,0 +1,100 @@
+package com.analiticasoft.hitraider.headless;
+
+import com.analiticasoft.hitraider.assets.SpriteManager;
+import com.analiticasoft.hitraider.config.GameConfig;
+import com.analiticasoft.hitraider.config.PhysicsTuning;
+import com.analiticasoft.hitraider.gameplay.GameplayContext;
+import com.analiticasoft.hitraider.gameplay.GameplayRuntime;
+import com.analiticasoft.hitraider.input.InputLog;
+import com.analiticasoft.hitraider.input.InputRecorder;
+import com.analiticasoft.hitraider.input.InputReplay;
+import com.analiticasoft.hitraider.input.InputState;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+
+/**
+ * SimRunner: one whole seeded run through GameplayRuntime, no rendering.
+ * - Same wiring as GameplayScreen.show() minus sprites/batch/font (no GL needed)
+ * - tick() is fed exactly SIM_DT, so 1 call == 1 fixed sim step; runs as fast as the CPU allows
+ * - Stops on run finished / player dead / maxTicks (replays: when the log runs out)
+ * - Optional InputRecorder: the run's input log; replay() feeds one back and reports its end snapshot
+ */
+public final class SimRunner {
+
+    private static final float SIM_DT = PhysicsTuning.SIM_DT;
+
+    private final int maxTicks;
+
+    // Never loaded: only here because GameplayContext owns one (shared by all runs)
+    private final SpriteManager sprites = new SpriteManager();
+
+    public SimRunner(int maxTicks) {
+        this.maxTicks = maxTicks;
+    }
+
+    public SimResult run(long seed, InputScript script) {
+        return run(seed, script, null);
+    }
+
+    /** Scripted run; with a recorder, every sim step's input ends up in its log (the caller finishes it with result.endSnapshot). */
+    public SimResult run(long seed, InputScript script, InputRecorder recorder) {
+        GameplayRuntime runtime = new GameplayRuntime();
+        runtime.setRecorder(recorder);
+        return simulate(seed, runtime, script, maxTicks);
+    }
+
+    /** Replays a log from its seed; compare result.endSnapshot with log.endSnapshot. */
+    public SimResult replay(InputLog log) {
+        GameplayRuntime runtime = new GameplayRuntime();
+        runtime.setReplay(new InputReplay(log));
+        return simulate(log.seed, runtime, null, log.ticks());
+    }
+
+    private SimResult simulate(long seed, GameplayRuntime runtime, InputScript script, int tickLimit) {
+        GameplayContext ctx = new GameplayContext(sprites);
+        ctx.worldCamera = new OrthographicCamera(GameConfig.VIRTUAL_W, GameConfig.VIRTUAL_H);
+
+        InputState input = new InputState();
+
+        long t0 = System.nanoTime();
+
+        ctx.run.buildTemplates();
+        ctx.run.setDestroyQueue(ctx.destroyQueue);
+        ctx.run.startNewRun(true, seed);
+        if (ctx.run.projectiles != null) ctx.run.projectiles.setDestroyQueue(ctx.destroyQueue);
+
+        ctx.transition.startFadeIn();
+        runtime.spawnDoorForCurrentRoom(ctx);
+        runtime.init(ctx);
+
+        int ticks = 0;
+        SimResult.Outcome outcome = SimResult.Outcome.TIMEOUT;
+
+        while (ticks < tickLimit) {
+            if (script != null) script.apply(ticks, input, ctx);
+            runtime.tick(ctx, input, SIM_DT);
+            ticks += Math.max(1, ctx.simStepsLastFrame); // never stall if a tick runs 0 steps
+
+            if (ctx.runFinished) { outcome = SimResult.Outcome.FINISHED; break; }
+            if (!ctx.run.player.isAlive()) { outcome = SimResult.Outcome.DIED; break; }
+        }
+
+        long wall = System.nanoTime() - t0;
+
+        SimResult result = new SimResult(
+            seed, outcome, ticks,
+            ctx.run.run.index + 1, ctx.run.run.totalRooms,
+            ctx.run.player.getHealth().getHp(),
+            wall,
+            ctx.snapshot("end").toString()
+        );
+
+        dispose(ctx);
+        runtime.dispose();
+        return result;
+    }
+
+    private static void dispose(GameplayContext ctx) {
+        if (ctx.run.combat != null) ctx.run.combat.dispose();
+        if (ctx.run.physics != null) ctx.run.physics.dispose();
+    }
+}